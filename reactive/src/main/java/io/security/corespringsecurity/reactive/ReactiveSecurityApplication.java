@@ -0,0 +1,18 @@
+package io.security.corespringsecurity.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * WebFlux + R2DBC 로그인 계층
+ *      : servlet 모듈(CoreSpringSecurityApplication)과 같은 account 테이블을 사용하고, 같은 로그인 규칙(비밀번호 + secret key)을 적용한다.
+ *      : 요청은 적은 수의 event loop thread(reactor.netty.ioWorkerCount)에서 처리하고, bcrypt 검증만 별도의 제한된 thread 에서 수행한다.
+ */
+@SpringBootApplication
+public class ReactiveSecurityApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveSecurityApplication.class, args);
+	}
+
+}
@@ -0,0 +1,49 @@
+package io.security.corespringsecurity.reactive.controller;
+
+import io.security.corespringsecurity.reactive.security.service.ReactiveAccountContext;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+
+/**
+ * 로그인 계층의 page
+ *      : view(thymeleaf) 는 servlet 모듈이 제공하고, 이 모듈은 인증/인가 결과만 text 로 응답한다.
+ */
+@RestController
+public class LoginTierController {
+
+    @GetMapping(ROOT_URL)
+    public Mono<String> home() {
+        return Mono.just("home");
+    }
+
+    @GetMapping(LOGIN_URL)
+    public Mono<String> login(@RequestParam(value = "error", required = false) String error,
+                              @RequestParam(value = "exception", required = false) String exception) {
+        return Mono.just(error == null ? "login" : "login error: " + exception);
+    }
+
+    @GetMapping(DENIED_URL)
+    public Mono<String> denied(@RequestParam(value = "exception", required = false) String exception) {
+        return Mono.just("denied: " + exception);
+    }
+
+    @GetMapping(MYPAGE_URL)
+    public Mono<String> mypage(@AuthenticationPrincipal ReactiveAccountContext account) {
+        return Mono.just("mypage: " + account.getUsername());
+    }
+
+    @GetMapping(MESSAGES_URL)
+    public Mono<String> messages(@AuthenticationPrincipal ReactiveAccountContext account) {
+        return Mono.just("messages: " + account.getUsername());
+    }
+
+    @GetMapping(CONFIG_URL)
+    public Mono<String> config(@AuthenticationPrincipal ReactiveAccountContext account) {
+        return Mono.just("config: " + account.getUsername());
+    }
+}
@@ -0,0 +1,38 @@
+package io.security.corespringsecurity.reactive.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * 회원 (R2DBC)
+ *
+ * servlet 모듈의 Account entity 와 같은 account 테이블을 조회한다.
+ *      : 테이블은 servlet 모듈(JPA ddl-auto)이 만들고, 이 모듈은 스키마를 관리하지 않는다.
+ */
+@Table("account")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReactiveAccount {
+
+    @Id
+    private Long id;
+    private String username;
+    private String password;
+    private String email;
+    private String age;
+    private String role;
+
+    @Builder
+    public ReactiveAccount(Long id, String username, String password, String email, String age, String role) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.email = email;
+        this.age = age;
+        this.role = role;
+    }
+}
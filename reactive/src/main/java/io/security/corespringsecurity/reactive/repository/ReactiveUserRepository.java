@@ -0,0 +1,13 @@
+package io.security.corespringsecurity.reactive.repository;
+
+import io.security.corespringsecurity.reactive.domain.ReactiveAccount;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends ReactiveCrudRepository<ReactiveAccount, Long> {
+
+    /**
+     * @return 없는 username 이면 empty
+     */
+    Mono<ReactiveAccount> findByUsername(String username);
+}
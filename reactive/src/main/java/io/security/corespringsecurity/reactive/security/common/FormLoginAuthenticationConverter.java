@@ -0,0 +1,43 @@
+package io.security.corespringsecurity.reactive.security.common;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * 로그인 form(application/x-www-form-urlencoded) 을 인증 전 {@link UsernamePasswordAuthenticationToken} 으로 변환
+ *      : ServerFormLoginAuthenticationConverter 는 username, password 만 읽으므로 secret_key 를 {@link FormLoginDetails} 에 담는다.
+ *      : form 은 {@link ServerWebExchange#getFormData()} 로 한번만 읽는다. (CsrfWebFilter 가 읽은 결과를 재사용)
+ */
+public class FormLoginAuthenticationConverter implements ServerAuthenticationConverter {
+
+    public static final String USERNAME_PARAMETER = "username";
+    public static final String PASSWORD_PARAMETER = "password";
+    public static final String SECRET_KEY_PARAMETER = "secret_key";
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        return exchange.getFormData().map(form -> createAuthentication(exchange, form));
+    }
+
+    private Authentication createAuthentication(ServerWebExchange exchange, MultiValueMap<String, String> form) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                form.getFirst(USERNAME_PARAMETER),
+                form.getFirst(PASSWORD_PARAMETER));
+        authentication.setDetails(new FormLoginDetails(remoteAddress(exchange), form.getFirst(SECRET_KEY_PARAMETER)));
+        return authentication;
+    }
+
+    private static String remoteAddress(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return null;
+        }
+        return remoteAddress.getAddress().getHostAddress();
+    }
+}
@@ -0,0 +1,19 @@
+package io.security.corespringsecurity.reactive.security.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 로그인 form 에서 인증 외에 추가로 전송한 값 (servlet 모듈의 FormWebAuthenticationDetails 와 같은 역할)
+ *      : {@link Authentication} 의 details 속성에 저장
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class FormLoginDetails {
+    private final String remoteAddress;
+    @ToString.Exclude
+    private final String secretKey;
+}
@@ -0,0 +1,158 @@
+package io.security.corespringsecurity.reactive.security.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.security.corespringsecurity.reactive.security.common.FormLoginAuthenticationConverter;
+import io.security.corespringsecurity.reactive.security.filter.CsrfCookieWebFilter;
+import io.security.corespringsecurity.reactive.security.handler.CustomServerAccessDeniedHandler;
+import io.security.corespringsecurity.reactive.security.handler.CustomServerAuthenticationFailureHandler;
+import io.security.corespringsecurity.reactive.security.handler.CustomServerAuthenticationSuccessHandler;
+import io.security.corespringsecurity.reactive.security.manager.CustomReactiveAuthenticationManager;
+import io.security.corespringsecurity.reactive.security.service.CustomReactiveUserDetailsService;
+import io.security.corespringsecurity.security.crypto.BCryptStrengthCalibrator;
+import io.security.corespringsecurity.security.crypto.PasswordEncoderFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.RedirectServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.context.ServerSecurityContextRepository;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+import org.springframework.security.web.server.csrf.CookieServerCsrfTokenRepository;
+import org.springframework.security.web.server.savedrequest.ServerRequestCache;
+import org.springframework.security.web.server.savedrequest.WebSessionServerRequestCache;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static io.security.corespringsecurity.constants.RoleConstant.*;
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+
+/**
+ * WebFlux 로그인 계층의 보안 설정 (servlet 모듈의 SecurityConfig 중 form 로그인 부분)
+ *
+ * url 별 권한은 servlet 모듈이 DB 자원(Resources) 의 기본값으로 등록하는 규칙과 같다.
+ *      : MYPAGE_URL - USER, MESSAGES_URL - MANAGER, CONFIG_URL/** - ADMIN
+ *
+ * 인증 상태(SecurityContext), 로그인 후 돌아갈 요청은 WebSession 에, csrf token 은 쿠키에 저장한다.
+ *      : csrf token 쿠키는 {@link CsrfCookieWebFilter} 가 내려주고, 로그인 form 은 그 값을 _csrf 파라미터로 전송한다.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final CustomReactiveUserDetailsService customReactiveUserDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.password.bcrypt.target-duration:100ms}")
+    private Duration bcryptTargetDuration;//bcrypt 해시 1회 목표 시간(서버 시작시 strength 를 측정)
+
+    @Value("${security.password.verification.threads:0}")
+    private int verificationThreads;//비밀번호 검증 스레드 수(0 이하; CPU 코어 수)
+
+    @Value("${security.password.verification.queue-capacity:64}")
+    private int verificationQueueCapacity;//비밀번호 검증 대기열 크기
+
+    @Value("${security.password.verification.timeout:5s}")
+    private Duration verificationTimeout;//비밀번호 검증 최대 대기 시간
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        ServerRequestCache requestCache = new WebSessionServerRequestCache();
+        ServerSecurityContextRepository securityContextRepository = new WebSessionServerSecurityContextRepository();
+        RedirectServerAuthenticationEntryPoint authenticationEntryPoint = new RedirectServerAuthenticationEntryPoint(LOGIN_URL);
+        authenticationEntryPoint.setRequestCache(requestCache);
+
+        http
+                .authorizeExchange()
+                .pathMatchers(ROOT_URL, LOGIN_URL, DENIED_URL, HEALTH_URL).permitAll()
+                .pathMatchers(MYPAGE_URL).hasRole(USER_ROLE)
+                .pathMatchers(MESSAGES_URL).hasRole(MANAGER_ROLE)
+                .pathMatchers(CONFIG_URL + "/**").hasRole(ADMIN_ROLE)
+                .anyExchange().authenticated()
+
+        .and()
+                .addFilterAt(formLoginWebFilter(requestCache, securityContextRepository), SecurityWebFiltersOrder.FORM_LOGIN)
+                .securityContextRepository(securityContextRepository)//인증 상태를 WebSession 에 저장
+                .requestCache()
+                .requestCache(requestCache)//로그인 후 돌아갈 요청
+
+        .and()
+                .exceptionHandling()
+                .authenticationEntryPoint(authenticationEntryPoint)//인증 필요시 로그인 페이지로 redirect
+                .accessDeniedHandler(new CustomServerAccessDeniedHandler(DENIED_URL))//인가 거부시 호출되는 handler
+
+        .and()
+                .csrf()
+                .csrfTokenRepository(new CookieServerCsrfTokenRepository())//csrf token 을 세션 대신 쿠키에 저장
+
+        .and()
+                .addFilterAfter(new CsrfCookieWebFilter(), SecurityWebFiltersOrder.CSRF)//csrf token 쿠키 발급
+                .logout()
+                .logoutUrl(LOGOUT_URL);
+
+        return http.build();
+    }
+
+    /**
+     * LOGIN_PROC_URL 로 전송한 로그인 form 을 처리하는 filter
+     *      : ServerHttpSecurity#formLogin 은 username, password 만 읽으므로 secret_key 를 읽는 converter 로 직접 구성한다.
+     *      : 인증에 성공하면 SecurityContext 를 WebSession 에 저장한다.
+     */
+    private AuthenticationWebFilter formLoginWebFilter(ServerRequestCache requestCache,
+                                                       ServerSecurityContextRepository securityContextRepository) {
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(reactiveAuthenticationManager());
+        filter.setRequiresAuthenticationMatcher(ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, LOGIN_PROC_URL));
+        filter.setServerAuthenticationConverter(new FormLoginAuthenticationConverter());
+        filter.setAuthenticationSuccessHandler(new CustomServerAuthenticationSuccessHandler(requestCache));
+        filter.setAuthenticationFailureHandler(new CustomServerAuthenticationFailureHandler());
+        filter.setSecurityContextRepository(securityContextRepository);
+        return filter;
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager() {
+        return new CustomReactiveAuthenticationManager(customReactiveUserDetailsService, passwordEncoder(), passwordScheduler(), verificationTimeout);
+    }
+
+    /**
+     * servlet 모듈과 같은 {id}encodedPassword 포맷의 encoder (같은 account 테이블의 해시를 검증)
+     *      : bcrypt strength 는 서버 시작시 {@link BCryptStrengthCalibrator} 로 측정하여 목표 시간(bcryptTargetDuration)에 맞춘다.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactory.createDelegatingPasswordEncoder(BCryptStrengthCalibrator.calibrate(bcryptTargetDuration), meterRegistry);
+    }
+
+    /**
+     * 비밀번호 검증(bcrypt) 전용 scheduler
+     *      : event loop 에서 bcrypt 를 수행하면 그동안 같은 event loop 의 다른 요청이 모두 멈추므로 별도의 thread 에서 수행한다.
+     *      : thread 수와 전체 대기열 크기를 제한하고, 대기열이 가득 차면 바로 거부한다. (servlet 모듈의 BoundedPasswordEncoder 와 같은 ThreadPoolExecutor 구성)
+     *      : Schedulers.newBoundedElastic 의 queuedTaskCap 은 thread 별 대기열 크기라서 전체 대기열이 thread 수 배로 늘어나므로 사용하지 않는다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordScheduler() {
+        int threads = verificationThreads > 0 ? verificationThreads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-verification-");
+        threadFactory.setDaemon(true);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(verificationQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        return Schedulers.fromExecutorService(executor, "password-verification");
+    }
+}
@@ -0,0 +1,28 @@
+package io.security.corespringsecurity.reactive.security.filter;
+
+import org.springframework.security.web.server.csrf.CookieServerCsrfTokenRepository;
+import org.springframework.security.web.server.csrf.CsrfToken;
+import org.springframework.security.web.server.csrf.CsrfWebFilter;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * csrf token 쿠키(XSRF-TOKEN)를 내려주는 filter
+ *      : {@link CsrfWebFilter} 는 csrf token 을 Mono 로 exchange attribute 에 넣기만 하고, 누군가 구독해야 token 을 만들어
+ *        {@link CookieServerCsrfTokenRepository} 에 저장(Set-Cookie)한다.
+ *      : 이 모듈은 view(thymeleaf) 없이 text 로 응답하므로 token 을 구독하는 곳이 없어, 이 filter 에서 구독한다.
+ *      : 쿠키에 token 이 이미 있으면 그 token 을 사용하고 새로 저장하지 않는다.
+ */
+public class CsrfCookieWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Mono<CsrfToken> csrfToken = exchange.getAttribute(CsrfToken.class.getName());
+        if (csrfToken == null) {
+            return chain.filter(exchange);
+        }
+        return csrfToken.then(Mono.defer(() -> chain.filter(exchange)));
+    }
+}
@@ -0,0 +1,30 @@
+package io.security.corespringsecurity.reactive.security.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.DefaultServerRedirectStrategy;
+import org.springframework.security.web.server.ServerRedirectStrategy;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Form 인증 - Access Denied (servlet 모듈의 CustomAccessDeniedHandler 와 같은 역할)
+ *      : 인증 유저 중 권한을 갖지 못한 유저가 접근하면 errorPage?exception={message} 로 redirect
+ */
+@RequiredArgsConstructor
+public class CustomServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    private final String errorPage;
+    private final ServerRedirectStrategy redirectStrategy = new DefaultServerRedirectStrategy();
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+        return redirectStrategy.sendRedirect(exchange, UriComponentsBuilder.fromPath(errorPage)
+                .queryParam("exception", denied.getMessage())
+                .encode()
+                .build()
+                .toUri());
+    }
+}
@@ -0,0 +1,54 @@
+package io.security.corespringsecurity.reactive.security.handler;
+
+import io.security.corespringsecurity.security.crypto.PasswordVerificationRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.DefaultServerRedirectStrategy;
+import org.springframework.security.web.server.ServerRedirectStrategy;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static io.security.corespringsecurity.constants.UrlConstant.LOGIN_URL;
+
+/**
+ * Form 인증 - 실패 (servlet 모듈의 CustomAuthenticationFailureHandler 와 같은 redirect url)
+ *      : secret key 불일치({@link InsufficientAuthenticationException}) 와 그 외(username, password) 를 구분해서 로그인 페이지로 redirect
+ *      : 비밀번호 검증을 수행하지 못한 경우({@link PasswordVerificationRejectedException}) 는 인증 실패가 아니므로 503
+ */
+public class CustomServerAuthenticationFailureHandler implements ServerAuthenticationFailureHandler {
+
+    public static final String RETRY_AFTER_SECONDS = "1";
+    static final URI INVALID_SECRET_KEY_URI = failureUri("Invalid Secret Key");
+    static final URI INVALID_USERNAME_OR_PASSWORD_URI = failureUri("Invalid Username or Password");
+
+    private final ServerRedirectStrategy redirectStrategy = new DefaultServerRedirectStrategy();
+
+    @Override
+    public Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException exception) {
+        if (exception instanceof PasswordVerificationRejectedException) {
+            ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return response.setComplete();
+        }
+        return redirectStrategy.sendRedirect(webFilterExchange.getExchange(), exception instanceof InsufficientAuthenticationException
+                ? INVALID_SECRET_KEY_URI
+                : INVALID_USERNAME_OR_PASSWORD_URI);
+    }
+
+    private static URI failureUri(String message) {
+        return UriComponentsBuilder.fromPath(LOGIN_URL)
+                .queryParam("error", true)
+                .queryParam("exception", message)
+                .encode()
+                .build()
+                .toUri();
+    }
+}
@@ -0,0 +1,34 @@
+package io.security.corespringsecurity.reactive.security.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.DefaultServerRedirectStrategy;
+import org.springframework.security.web.server.ServerRedirectStrategy;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import org.springframework.security.web.server.savedrequest.ServerRequestCache;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static io.security.corespringsecurity.constants.UrlConstant.ROOT_URL;
+
+/**
+ * Form 인증 - 성공 (servlet 모듈의 CustomAuthenticationSuccessHandler 와 같은 역할)
+ *      : 로그인 전에 접근하려던 요청({@link ServerRequestCache})이 있으면 그 요청으로, 없으면 ROOT_URL 로 redirect
+ */
+@RequiredArgsConstructor
+public class CustomServerAuthenticationSuccessHandler implements ServerAuthenticationSuccessHandler {
+
+    private static final URI DEFAULT_TARGET_URI = URI.create(ROOT_URL);
+
+    private final ServerRequestCache requestCache;
+    private final ServerRedirectStrategy redirectStrategy = new DefaultServerRedirectStrategy();
+
+    @Override
+    public Mono<Void> onAuthenticationSuccess(WebFilterExchange webFilterExchange, Authentication authentication) {
+        return requestCache.getRedirectUri(webFilterExchange.getExchange())
+                .defaultIfEmpty(DEFAULT_TARGET_URI)
+                .flatMap(location -> redirectStrategy.sendRedirect(webFilterExchange.getExchange(), location));
+    }
+}
@@ -0,0 +1,101 @@
+package io.security.corespringsecurity.reactive.security.manager;
+
+import io.security.corespringsecurity.reactive.security.common.FormLoginDetails;
+import io.security.corespringsecurity.security.crypto.PasswordVerificationRejectedException;
+import io.security.corespringsecurity.security.crypto.UnknownUserPasswordCheck;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로그인 form 인증 (servlet 모듈의 CustomAuthenticationProvider 와 같은 규칙)
+ *      : 사용자 조회 -> 비밀번호 검증(BadCredentialsException) -> secret key 검증(InsufficientAuthenticationException)
+ *      : 없는 사용자는 {@link UnknownUserPasswordCheck} 로 dummy 해시와 비교한 뒤 {@link UsernameNotFoundException}
+ *
+ * 사용자 조회(R2DBC)는 event loop 에서 non-blocking 으로 수행하고,
+ * CPU 를 오래 쓰는 비밀번호 검증(bcrypt)은 passwordScheduler 에서 수행한다. (event loop 를 막지 않도록)
+ *      : passwordScheduler 의 대기열이 가득 찼거나 verificationTimeout 안에 검증이 시작되지 않으면 {@link PasswordVerificationRejectedException}(503)
+ *      : 이미 시작된 검증은 verificationTimeout 이 지나도 끝까지 수행한다. (servlet 모듈의 BoundedPasswordEncoder 와 같이 대기 시간만 제한)
+ */
+@RequiredArgsConstructor
+public class CustomReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private static final String SECRET_KEY = "secret";
+
+    private final ReactiveUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordScheduler;
+    private final Duration verificationTimeout;
+    private final UnknownUserPasswordCheck unknownUserPasswordCheck = new UnknownUserPasswordCheck();
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String username = authentication.getName();
+        String password = (String) authentication.getCredentials();
+        Object details = authentication.getDetails();
+        String secretKey = details instanceof FormLoginDetails ? ((FormLoginDetails) details).getSecretKey() : null;
+
+        return userDetailsService.findByUsername(username)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(userDetails -> verifyOnScheduler(userDetails.orElse(null), password, secretKey));
+    }
+
+    /**
+     * passwordScheduler 에서 검증
+     *      : claimed ; 검증 스레드가 시작했거나, timeout 으로 거부된 경우 true (먼저 바꾼 쪽만 진행)
+     *      : timeout 은 검증이 시작되지 않은 경우에만 발생하고, 시작된 검증은 결과를 기다린다.
+     */
+    private Mono<Authentication> verifyOnScheduler(UserDetails userDetails, String password, String secretKey) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        Mono<Long> queueTimeout = Mono.delay(verificationTimeout)
+                .flatMap(tick -> claimed.compareAndSet(false, true) ? Mono.just(tick) : Mono.never());
+        return Mono.fromCallable(() -> claimed.compareAndSet(false, true) ? verify(userDetails, password, secretKey) : null)
+                .subscribeOn(passwordScheduler)
+                .timeout(queueTimeout, Mono.defer(() -> Mono.error(
+                        new PasswordVerificationRejectedException("password verification timed out in the queue"))))
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new PasswordVerificationRejectedException("password verification queue is full"));
+    }
+
+    /**
+     * passwordScheduler 에서 수행
+     *
+     * @param userDetails null 이면 없는 사용자
+     */
+    private Authentication verify(UserDetails userDetails, String password, String secretKey) {
+        if (userDetails == null) {
+            //없는 사용자도 비밀번호 검증만큼 시간을 써서, 응답 시간으로 username 존재 여부를 알 수 없게 한다.
+            unknownUserPasswordCheck.matches(passwordEncoder, password);
+            throw new UsernameNotFoundException("UsernameNotFoundException");
+        }
+
+        if (!passwordEncoder.matches(password, userDetails.getPassword())) {
+            throw new BadCredentialsException("invalid password");
+        }
+
+        if (secretKey == null || !SECRET_KEY.equals(secretKey)) {
+            throw new InsufficientAuthenticationException("InsufficientAuthenticationException");
+        }
+
+        if (userDetails instanceof CredentialsContainer) {
+            ((CredentialsContainer) userDetails).eraseCredentials();
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+}
@@ -0,0 +1,28 @@
+package io.security.corespringsecurity.reactive.security.service;
+
+import io.security.corespringsecurity.reactive.repository.ReactiveUserRepository;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * DB(R2DBC) 에 저장된 user 의 정보를 조회하는 Service (servlet 모듈의 CustomUsersDetailsService 와 같은 역할)
+ *
+ * {@link ReactiveUserDetailsService} 규약대로 없는 username 이면 예외 대신 empty 를 반환한다.
+ *      : 없는 사용자의 dummy 해시 비교와 {@link org.springframework.security.core.userdetails.UsernameNotFoundException} 은
+ *        CustomReactiveAuthenticationManager 가 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CustomReactiveUserDetailsService implements ReactiveUserDetailsService {
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return userRepository.findByUsername(username)
+                .map(account -> new ReactiveAccountContext(account, RoleAuthorities.authorities(account.getRole())));
+    }
+}
@@ -0,0 +1,95 @@
+package io.security.corespringsecurity.reactive.security.service;
+
+import io.security.corespringsecurity.reactive.domain.ReactiveAccount;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * {@link UserDetails} 구현 클래스 (servlet 모듈의 AccountContext 와 같은 역할)
+ *
+ * 권한 목록은 {@link RoleAuthorities} 의 공유 권한 목록을 그대로 사용한다. (equals, hashCode 는 username 기준)
+ * 인증에 성공하면 password 를 지운 뒤 인증 객체의 principal 로 사용한다.
+ */
+public class ReactiveAccountContext implements UserDetails, CredentialsContainer {
+
+    private final Long id;
+    private final String username;
+    private String password;
+    private final String role;
+    private final Collection<GrantedAuthority> authorities;
+
+    public ReactiveAccountContext(ReactiveAccount account, Collection<GrantedAuthority> authorities) {
+        this.id = account.getId();
+        this.username = account.getUsername();
+        this.password = account.getPassword();
+        this.role = account.getRole();
+        this.authorities = authorities;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ReactiveAccountContext && username.equals(((ReactiveAccountContext) o).username);
+    }
+
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ReactiveAccountContext(id=" + id + ", username=" + username + ", role=" + role + ")";
+    }
+}
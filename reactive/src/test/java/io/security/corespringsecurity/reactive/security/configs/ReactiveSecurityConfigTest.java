@@ -0,0 +1,163 @@
+package io.security.corespringsecurity.reactive.security.configs;
+
+import io.security.corespringsecurity.reactive.domain.ReactiveAccount;
+import io.security.corespringsecurity.reactive.repository.ReactiveUserRepository;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+import static io.security.corespringsecurity.constants.RoleConstant.USER_ROLE;
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.csrf;
+
+@SpringBootTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive-security-test?options=DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=",
+        "security.password.bcrypt.target-duration=1ms"
+})
+@AutoConfigureWebTestClient
+public class ReactiveSecurityConfigTest {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "1111";
+    private static final String CSRF_COOKIE_NAME = "XSRF-TOKEN";
+    private static final String CSRF_PARAMETER_NAME = "_csrf";
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @Autowired
+    ReactiveUserRepository userRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.execute("CREATE TABLE IF NOT EXISTS account (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "username VARCHAR(255) NOT NULL UNIQUE, " +
+                "password VARCHAR(255), email VARCHAR(255), age VARCHAR(255), role VARCHAR(255))")
+                .then()
+                .then(userRepository.deleteAll())
+                .then(userRepository.save(ReactiveAccount.builder()
+                        .username(USERNAME)
+                        .password(passwordEncoder.encode(PASSWORD))
+                        .role(RoleAuthorities.ROLE_PREFIX + USER_ROLE)
+                        .build()))
+                .block();
+    }
+
+    @Test
+    @DisplayName("인증이 필요한 page 에 접근하면 로그인 페이지로 redirect 한다.")
+    void authenticationRequired() {
+        webTestClient.get().uri(MYPAGE_URL)
+                .exchange()
+                .expectStatus().isFound()
+                .expectHeader().valueEquals(HttpHeaders.LOCATION, LOGIN_URL);
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하면 ROOT_URL 로 redirect 하고, 세션으로 권한이 있는 page 에 접근한다.")
+    void login() {
+        //when
+        ResponseCookie session = login("secret")
+                .expectStatus().isFound()
+                .expectHeader().valueEquals(HttpHeaders.LOCATION, ROOT_URL)
+                .returnResult(Void.class)
+                .getResponseCookies()
+                .getFirst("SESSION");
+
+        //then
+        assertThat(session).isNotNull();
+        webTestClient.get().uri(MYPAGE_URL)
+                .cookie(session.getName(), session.getValue())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("mypage: " + USERNAME);
+    }
+
+    @Test
+    @DisplayName("secret key 가 일치하지 않으면 Invalid Secret Key 로 로그인 페이지에 redirect 한다.")
+    void invalidSecretKey() {
+        login("wrong")
+                .expectStatus().isFound()
+                .expectHeader().valueEquals(HttpHeaders.LOCATION, "/login?error=true&exception=Invalid%20Secret%20Key");
+    }
+
+    @Test
+    @DisplayName("권한이 없는 page 에 접근하면 DENIED_URL 로 redirect 한다.")
+    void accessDenied() {
+        //given
+        ResponseCookie session = login("secret")
+                .returnResult(Void.class)
+                .getResponseCookies()
+                .getFirst("SESSION");
+
+        //when //then
+        webTestClient.get().uri(CONFIG_URL)
+                .cookie(session.getName(), session.getValue())
+                .exchange()
+                .expectStatus().isFound()
+                .expectHeader().valueEquals(HttpHeaders.LOCATION, DENIED_URL + "?exception=Access%20Denied");
+    }
+
+    @Test
+    @DisplayName("GET /login 에서 발급받은 csrf token 쿠키로 로그인 form 을 전송할 수 있다.")
+    void csrfTokenCookie() {
+        //given
+        ResponseCookie csrfCookie = webTestClient.get().uri(LOGIN_URL)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseCookies()
+                .getFirst(CSRF_COOKIE_NAME);
+        assertThat(csrfCookie).isNotNull();
+
+        //when //then
+        webTestClient.post().uri(LOGIN_PROC_URL)
+                .cookie(csrfCookie.getName(), csrfCookie.getValue())
+                .body(BodyInserters.fromFormData("username", USERNAME)
+                        .with("password", PASSWORD)
+                        .with("secret_key", "secret")
+                        .with(CSRF_PARAMETER_NAME, csrfCookie.getValue()))
+                .exchange()
+                .expectStatus().isFound()
+                .expectHeader().valueEquals(HttpHeaders.LOCATION, ROOT_URL);
+    }
+
+    @Test
+    @DisplayName("csrf token 없이 로그인 form 을 전송하면 403 으로 거부한다.")
+    void loginWithoutCsrfToken() {
+        webTestClient.post().uri(LOGIN_PROC_URL)
+                .body(BodyInserters.fromFormData("username", USERNAME)
+                        .with("password", PASSWORD)
+                        .with("secret_key", "secret"))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    private WebTestClient.ResponseSpec login(String secretKey) {
+        return webTestClient.mutateWith(csrf())
+                .post().uri(LOGIN_PROC_URL)
+                .body(BodyInserters.fromFormData("username", USERNAME)
+                        .with("password", PASSWORD)
+                        .with("secret_key", secretKey))
+                .exchange();
+    }
+}
@@ -0,0 +1,204 @@
+package io.security.corespringsecurity.reactive.security.manager;
+
+import io.security.corespringsecurity.reactive.domain.ReactiveAccount;
+import io.security.corespringsecurity.reactive.security.common.FormLoginDetails;
+import io.security.corespringsecurity.reactive.security.service.ReactiveAccountContext;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import io.security.corespringsecurity.security.crypto.PasswordVerificationRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.security.corespringsecurity.constants.RoleConstant.USER_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class CustomReactiveAuthenticationManagerTest {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "1111";
+    private static final String ENCODED_PASSWORD = "{bcrypt}encoded";
+    private static final String ROLE = RoleAuthorities.ROLE_PREFIX + USER_ROLE;
+
+    ReactiveUserDetailsService userDetailsService;
+    PasswordEncoder passwordEncoder;
+    Scheduler passwordScheduler;
+    CustomReactiveAuthenticationManager authenticationManager;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = mock(ReactiveUserDetailsService.class);
+        passwordEncoder = mock(PasswordEncoder.class);
+        passwordScheduler = Schedulers.fromExecutorService(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new CustomizableThreadFactory("password-verification-")), "password-verification");
+        authenticationManager = new CustomReactiveAuthenticationManager(userDetailsService, passwordEncoder, passwordScheduler, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("비밀번호와 secret key 가 일치하면 password 를 지운 사용자 정보로 인증된 토큰을 반환하고, 비밀번호 검증은 passwordScheduler 에서 수행한다.")
+    void authenticate() {
+        //given
+        AtomicReference<String> matchesThread = new AtomicReference<>();
+        given(userDetailsService.findByUsername(USERNAME)).willReturn(Mono.just(accountContext()));
+        given(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).willAnswer(invocation -> {
+            matchesThread.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        //when //then
+        StepVerifier.create(authenticationManager.authenticate(formLogin(PASSWORD, "secret")))
+                .assertNext(authentication -> {
+                    assertThat(authentication.isAuthenticated()).isTrue();
+                    assertThat(authentication.getName()).isEqualTo(USERNAME);
+                    assertThat(authentication.getAuthorities()).isEqualTo(RoleAuthorities.authorities(ROLE));
+                    assertThat(((ReactiveAccountContext) authentication.getPrincipal()).getPassword()).isNull();
+                })
+                .verifyComplete();
+        assertThat(matchesThread.get()).startsWith("password-verification");
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 dummy 해시와 비교한 뒤 UsernameNotFoundException 을 던진다.")
+    void unknownUser() {
+        //given
+        given(userDetailsService.findByUsername(USERNAME)).willReturn(Mono.empty());
+        given(passwordEncoder.encode(anyString())).willReturn(ENCODED_PASSWORD);
+
+        //when //then
+        StepVerifier.create(authenticationManager.authenticate(formLogin(PASSWORD, "secret")))
+                .verifyError(UsernameNotFoundException.class);
+        verify(passwordEncoder).matches(eq(PASSWORD), eq(ENCODED_PASSWORD));
+    }
+
+    @Test
+    @DisplayName("비밀번호가 일치하지 않으면 BadCredentialsException 을 던진다.")
+    void invalidPassword() {
+        //given
+        given(userDetailsService.findByUsername(USERNAME)).willReturn(Mono.just(accountContext()));
+        given(passwordEncoder.matches(any(), any())).willReturn(false);
+
+        //when //then
+        StepVerifier.create(authenticationManager.authenticate(formLogin("wrong", "secret")))
+                .verifyError(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("secret key 가 일치하지 않으면 InsufficientAuthenticationException 을 던진다.")
+    void invalidSecretKey() {
+        //given
+        given(userDetailsService.findByUsername(USERNAME)).willReturn(Mono.just(accountContext()));
+        given(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).willReturn(true);
+
+        //when //then
+        StepVerifier.create(authenticationManager.authenticate(formLogin(PASSWORD, "wrong")))
+                .verifyError(InsufficientAuthenticationException.class);
+    }
+
+    @Test
+    @DisplayName("이미 시작된 비밀번호 검증은 제한 시간이 지나도 끝까지 수행해서 결과를 반환한다.")
+    void verificationStartedBeforeTimeout() {
+        //given
+        authenticationManager = new CustomReactiveAuthenticationManager(userDetailsService, passwordEncoder, passwordScheduler, Duration.ofMillis(50));
+        given(userDetailsService.findByUsername(USERNAME)).willReturn(Mono.just(accountContext()));
+        given(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).willAnswer(invocation -> {
+            Thread.sleep(300);
+            return true;
+        });
+
+        //when //then
+        StepVerifier.create(authenticationManager.authenticate(formLogin(PASSWORD, "secret")))
+                .assertNext(authentication -> assertThat(authentication.isAuthenticated()).isTrue())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("대기열에서 제한 시간 안에 검증이 시작되지 않으면 PasswordVerificationRejectedException 을 던지고, 이후에도 검증하지 않는다.")
+    void verificationTimeoutInQueue() throws InterruptedException {
+        //given
+        authenticationManager = new CustomReactiveAuthenticationManager(userDetailsService, passwordEncoder, passwordScheduler, Duration.ofMillis(50));
+        given(userDetailsService.findByUsername(USERNAME)).willReturn(Mono.just(accountContext()));
+        CountDownLatch release = new CountDownLatch(1);
+        passwordScheduler.schedule(() -> awaitQuietly(release));//검증 스레드 점유
+
+        //when //then
+        StepVerifier.create(authenticationManager.authenticate(formLogin(PASSWORD, "secret")))
+                .verifyError(PasswordVerificationRejectedException.class);
+        release.countDown();
+        Thread.sleep(100);
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("검증 스레드와 대기열(전체 크기)이 모두 차 있으면 기다리지 않고 PasswordVerificationRejectedException 을 던진다.")
+    void verificationQueueFull() {
+        //given
+        given(userDetailsService.findByUsername(USERNAME)).willReturn(Mono.just(accountContext()));
+        CountDownLatch release = new CountDownLatch(1);
+        passwordScheduler.schedule(() -> awaitQuietly(release));//검증 스레드 점유
+        passwordScheduler.schedule(() -> awaitQuietly(release));//대기열(1) 점유
+
+        //when //then
+        try {
+            StepVerifier.create(authenticationManager.authenticate(formLogin(PASSWORD, "secret")))
+                    .expectErrorMatches(e -> e instanceof PasswordVerificationRejectedException
+                            && e.getMessage().equals("password verification queue is full"))
+                    .verify(Duration.ofMillis(500));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ReactiveAccountContext accountContext() {
+        ReactiveAccount account = ReactiveAccount.builder()
+                .id(1L)
+                .username(USERNAME)
+                .password(ENCODED_PASSWORD)
+                .role(ROLE)
+                .build();
+        return new ReactiveAccountContext(account, RoleAuthorities.authorities(ROLE));
+    }
+
+    private static UsernamePasswordAuthenticationToken formLogin(String password, String secretKey) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(USERNAME, password);
+        authentication.setDetails(new FormLoginDetails("127.0.0.1", secretKey));
+        return authentication;
+    }
+}
@@ -0,0 +1,39 @@
+package io.security.corespringsecurity.security.common;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FormWebAuthenticationDetailsSource#buildDetails(javax.servlet.http.HttpServletRequest)} 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormWebAuthenticationDetailsSourceBenchmark {
+
+    private FormWebAuthenticationDetailsSource detailsSource;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        detailsSource = new FormWebAuthenticationDetailsSource();
+        request = new MockHttpServletRequest("POST", "/login_proc");
+        request.setRemoteAddr("10.0.0.1");
+        request.setSession(new MockHttpSession());
+        request.setParameter("username", "user");
+        request.setParameter("password", "1111");
+        request.setParameter("secret_key", "secret");
+    }
+
+    @Benchmark
+    public WebAuthenticationDetails buildDetails() {
+        return detailsSource.buildDetails(request);
+    }
+}
@@ -0,0 +1,47 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.domain.AccountDto;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 new ModelMapper() 하는 경우(newMapper*)와 {@link MapperConfig#modelMapper()} 를 공유하는 경우(sharedMapper*) 비교
+ *      : registration ; 회원가입 (AccountDto -> Account)
+ *      : 요청당 할당량은 gc profiler 의 gc.alloc.rate.norm
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelMapperBenchmark {
+
+    private ModelMapper sharedMapper;
+    private AccountDto accountDto;
+
+    @Setup
+    public void setUp() {
+        sharedMapper = new MapperConfig().modelMapper();
+        accountDto = AccountDto.builder()
+                .username("user")
+                .password("1111")
+                .email("aa@aa.com")
+                .age("11")
+                .role("USER")
+                .build();
+    }
+
+    @Benchmark
+    public Account newMapperRegistration() {
+        return new ModelMapper().map(accountDto, Account.class);
+    }
+
+    @Benchmark
+    public Account sharedMapperRegistration() {
+        return sharedMapper.map(accountDto, Account.class);
+    }
+}
@@ -0,0 +1,64 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PasswordEncoderFactory#createDelegatingPasswordEncoder(int, io.micrometer.core.instrument.MeterRegistry)} 의 알고리즘 별 matches 벤치마크
+ *      : 저장된 해시의 {id} 에 따라 {@link DelegatingPasswordEncoder} 가 선택하는 Encoder 가 달라진다.
+ *      : bcrypt 는 strength 별로 측정(strength 1 증가시 2배)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "1111";
+
+    @Param({"bcrypt-10", "bcrypt-12", "pbkdf2", "scrypt", "argon2", "sha256", "noop"})
+    public String variant;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        int bcryptStrength = variant.startsWith("bcrypt-") ? Integer.parseInt(variant.substring("bcrypt-".length())) : 10;
+        String id = variant.startsWith("bcrypt-") ? "bcrypt" : variant;
+
+        passwordEncoder = PasswordEncoderFactory.createDelegatingPasswordEncoder(bcryptStrength, new SimpleMeterRegistry());
+        encodedPassword = "bcrypt".equals(id)
+                ? passwordEncoder.encode(RAW_PASSWORD)
+                : "{" + id + "}" + encoderFor(id).encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static PasswordEncoder encoderFor(String id) {
+        switch (id) {
+            case "pbkdf2":
+                return new org.springframework.security.crypto.password.Pbkdf2PasswordEncoder();
+            case "scrypt":
+                return new org.springframework.security.crypto.scrypt.SCryptPasswordEncoder();
+            case "argon2":
+                return new org.springframework.security.crypto.argon2.Argon2PasswordEncoder();
+            case "sha256":
+                return new org.springframework.security.crypto.password.StandardPasswordEncoder();
+            case "noop":
+                return org.springframework.security.crypto.password.NoOpPasswordEncoder.getInstance();
+            default:
+                throw new IllegalArgumentException(id);
+        }
+    }
+}
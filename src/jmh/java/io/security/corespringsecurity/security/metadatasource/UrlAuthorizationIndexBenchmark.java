@@ -0,0 +1,82 @@
+package io.security.corespringsecurity.security.metadatasource;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * url 권한 조회 벤치마크
+ *      : antMatchers() 체인과 같이 {@link AntPathRequestMatcher} 를 순서대로 비교 vs {@link UrlAuthorizationIndex}
+ *      : 규칙 수(rules)의 절반은 고정 경로("/page{i}"), 절반은 prefix 경로("/resource{i}/**")
+ *      : 요청은 마지막 규칙(last), 중간 규칙(middle), 일치하는 규칙이 없는 경로(none; anyRequest)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlAuthorizationIndexBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int rules;
+
+    @Param({"last", "middle", "none"})
+    private String target;
+
+    private List<AntPathRequestMatcher> matchers;
+    private List<UrlAccessAttribute> attributes;
+    private UrlAuthorizationIndex index;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        UrlAuthorizationIndex.Builder builder = UrlAuthorizationIndex.builder();
+        matchers = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            String pattern = i % 2 == 0 ? "/page" + i : "/resource" + i + "/**";
+            builder.hasAnyRole(pattern, "ROLE" + (i % 8));
+            matchers.add(new AntPathRequestMatcher(pattern));
+        }
+        index = builder.build();
+        attributes = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            attributes.add(index.getAttribute(request(i % 2 == 0 ? "/page" + i : "/resource" + i)));
+        }
+
+        int last = rules - 1;
+        int middle = rules / 2 + 1;
+        if ("last".equals(target)) {
+            request = request("/resource" + last + "/items/1");
+        } else if ("middle".equals(target)) {
+            request = request("/resource" + middle + "/items/1");
+        } else {
+            request = request("/unknown/items/1");
+        }
+    }
+
+    @Benchmark
+    public UrlAccessAttribute linearAntMatchers() {
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(request)) {
+                return attributes.get(i);
+            }
+        }
+        return UrlAccessAttribute.AUTHENTICATED;
+    }
+
+    @Benchmark
+    public UrlAccessAttribute compiledIndex() {
+        return index.getAttribute(request);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,107 @@
+package io.security.corespringsecurity.security.provider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.common.FormWebAuthenticationDetails;
+import io.security.corespringsecurity.security.crypto.PasswordEncoderFactory;
+import io.security.corespringsecurity.security.crypto.PasswordUpgrader;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.security.throttle.LoginThrottle;
+import io.security.corespringsecurity.security.throttle.StripedLoginAttemptStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CustomAuthenticationProvider#authenticate(Authentication)} 벤치마크
+ *      : DB 조회는 제외하기 위해 {@link CustomUsersDetailsService} 를 stub 으로 대체
+ *      : encoder=bcrypt ; 실제 비밀번호 검증 비용 포함
+ *      : encoder=plain ; 비밀번호 검증을 제외한 인증 절차만의 비용
+ *      : 로그인 시도 횟수 제한은 끔 (비용은 LoginThrottleBenchmark)
+ *      : 단계별 metric 기록 비용 포함 ({@link LoginMetrics})
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomAuthenticationProviderBenchmark {
+
+    private static final String RAW_PASSWORD = "1111";
+
+    @Param({"bcrypt", "plain"})
+    public String encoder;
+
+    private CustomAuthenticationProvider provider;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoder passwordEncoder = "bcrypt".equals(encoder)
+                ? PasswordEncoderFactory.createDelegatingPasswordEncoder(10, new SimpleMeterRegistry())
+                : new PlainPasswordEncoder();
+        Account account = Account.builder()
+                .id(1L)
+                .username("user")
+                .password(passwordEncoder.encode(RAW_PASSWORD))
+                .role("ROLE_USER")
+                .build();
+        AccountContext accountContext = new AccountContext(account, Collections.singletonList(new SimpleGrantedAuthority(account.getRole())));
+
+        provider = new CustomAuthenticationProvider(
+                new StubUsersDetailsService(accountContext),
+                passwordEncoder,
+                new PasswordUpgrader(passwordEncoder, null),
+                new LoginThrottle(new StripedLoginAttemptStore(64, 100_000), 0, 0, Duration.ofMinutes(1), Clock.systemUTC()),
+                new LoginMetrics(new SimpleMeterRegistry()));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("secret_key", "secret");
+        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken("user", RAW_PASSWORD);
+        token.setDetails(new FormWebAuthenticationDetails(request));
+        authentication = token;
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return provider.authenticate(authentication);
+    }
+
+    private static class StubUsersDetailsService extends CustomUsersDetailsService {
+        private final AccountContext accountContext;
+
+        StubUsersDetailsService(AccountContext accountContext) {
+            super(null, null, null);
+            this.accountContext = accountContext;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            return accountContext;
+        }
+    }
+
+    private static class PlainPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.security.corespringsecurity.security.service;
+
+import io.security.corespringsecurity.CoreSpringSecurityApplication;
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.repository.UserRepository;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CustomUsersDetailsService#loadUserByUsername(String)} 벤치마크
+ *      : PostgreSQL 대신 embedded H2 로 애플리케이션을 실행
+ *      : cached=true ; {@link UserCache} 에 저장된 사용자 조회
+ *      : cached=false ; 매번 {@link UserCache} 와 hibernate 2차 캐시(account, account-natural-id region)를 비우고 DB 조회
+ *        (캐시는 측정에서 제외되는 {@link Level#Invocation} setup 에서 비운다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomUsersDetailsServiceBenchmark {
+
+    private static final int ACCOUNTS = 1000;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private ConfigurableApplicationContext context;
+    private CustomUsersDetailsService usersDetailsService;
+    private UserCache userCache;
+    private Cache secondLevelCache;
+    private String username;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CoreSpringSecurityApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(//application.properties 보다 우선하도록 command line argument 로 전달
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false");
+        usersDetailsService = context.getBean(CustomUsersDetailsService.class);
+        userCache = context.getBean(UserCache.class);
+        secondLevelCache = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            userRepository.save(Account.builder()
+                    .username("user" + i)
+                    .password("{noop}1111")
+                    .email("user" + i + "@aa.com")
+                    .age("11")
+                    .role("ROLE_USER")
+                    .build());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void nextUsername() {
+        username = "user" + ThreadLocalRandom.current().nextInt(ACCOUNTS);
+        if (!cached) {
+            userCache.removeUserFromCache(username);
+            secondLevelCache.evictAllRegions();
+        }
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return usersDetailsService.loadUserByUsername(username);
+    }
+}
@@ -0,0 +1,49 @@
+package io.security.corespringsecurity.security.throttle;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoginThrottle#check(String, String)} 벤치마크 (8 스레드 동시 호출)
+ *      : keys=1 ; 모든 스레드가 같은 username/ip (같은 stripe 경합)
+ *      : keys=10000 ; username/ip 가 여러 stripe 로 분산
+ *      : 제한에 걸리지 않도록 limit 을 크게 설정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoginThrottleBenchmark {
+
+    @Param({"1", "10000"})
+    public int keys;
+
+    private LoginThrottle loginThrottle;
+    private String[] usernames;
+    private String[] remoteAddresses;
+
+    @Setup
+    public void setUp() {
+        loginThrottle = new LoginThrottle(new StripedLoginAttemptStore(64, 100_000),
+                Integer.MAX_VALUE, Integer.MAX_VALUE, Duration.ofMinutes(1), Clock.systemUTC());
+        usernames = new String[keys];
+        remoteAddresses = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            usernames[i] = "user" + i;
+            remoteAddresses[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public void check() {
+        int i = ThreadLocalRandom.current().nextInt(keys);
+        loginThrottle.check(usernames[i], remoteAddresses[i]);
+    }
+}
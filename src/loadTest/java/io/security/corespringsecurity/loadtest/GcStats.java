@@ -0,0 +1,59 @@
+package io.security.corespringsecurity.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 구간 동안의 GC 횟수, 시간 (GC 별)
+ *      : 애플리케이션과 부하 client 가 같은 JVM 에서 실행되므로 client 의 할당도 포함된다.
+ */
+@Getter
+@AllArgsConstructor
+class GcStats {
+
+    private final long collections;
+    private final long collectionMillis;
+    private final Map<String, Collector> collectors;
+
+    /**
+     * @return 현재까지 누적된 GC 횟수, 시간
+     */
+    static GcStats snapshot() {
+        Map<String, Collector> collectors = new LinkedHashMap<>();
+        long collections = 0;
+        long collectionMillis = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            long count = Math.max(bean.getCollectionCount(), 0);
+            long millis = Math.max(bean.getCollectionTime(), 0);
+            collectors.put(bean.getName(), new Collector(count, millis));
+            collections += count;
+            collectionMillis += millis;
+        }
+        return new GcStats(collections, collectionMillis, collectors);
+    }
+
+    /**
+     * @param before 구간 시작시 snapshot
+     * @return 구간 동안 증가한 GC 횟수, 시간
+     */
+    GcStats minus(GcStats before) {
+        Map<String, Collector> delta = new LinkedHashMap<>();
+        collectors.forEach((name, collector) -> {
+            Collector previous = before.collectors.getOrDefault(name, new Collector(0, 0));
+            delta.put(name, new Collector(collector.collections - previous.collections, collector.collectionMillis - previous.collectionMillis));
+        });
+        return new GcStats(collections - before.collections, collectionMillis - before.collectionMillis, delta);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Collector {
+        private final long collections;
+        private final long collectionMillis;
+    }
+}
@@ -0,0 +1,134 @@
+package io.security.corespringsecurity.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 가상 사용자 1명의 HTTP client
+ *      : 쿠키(JSESSIONID 등)를 직접 보관하고, redirect 는 따라가지 않는다.
+ *      : csrf ; CookieCsrfTokenRepository 는 XSRF-TOKEN 쿠키와 _csrf 파라미터가 같은지만 비교하므로,
+ *        client 가 만든 token 을 쿠키와 파라미터로 함께 보내서 login page 조회 없이 POST 한다.
+ *      : keep-alive 연결을 재사용하도록 응답 body 는 항상 끝까지 읽는다.
+ */
+class LoadClient {
+
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+    private static final String CSRF_PARAMETER = "_csrf";
+
+    private final String baseUrl;
+    private final String csrfToken = UUID.randomUUID().toString();
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final byte[] buffer = new byte[8192];
+
+    LoadClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        newSession();
+    }
+
+    /**
+     * 쿠키를 모두 지워서 다음 요청이 새 session 으로 처리되도록 한다.
+     */
+    void newSession() {
+        cookies.clear();
+        cookies.put(CSRF_COOKIE, csrfToken);
+    }
+
+    Response get(String path) throws IOException {
+        HttpURLConnection connection = open(path, "GET");
+        return execute(connection);
+    }
+
+    Response postForm(String path, Map<String, String> parameters) throws IOException {
+        StringBuilder body = new StringBuilder(CSRF_PARAMETER).append('=').append(csrfToken);
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            body.append('&').append(encode(parameter.getKey())).append('=').append(encode(parameter.getValue()));
+        }
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        HttpURLConnection connection = open(path, "POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+        connection.setFixedLengthStreamingMode(bytes.length);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(bytes);
+        }
+        return execute(connection);
+    }
+
+    private HttpURLConnection open(String path, String method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setInstanceFollowRedirects(false);
+        connection.setUseCaches(false);
+        if (!cookies.isEmpty()) {
+            StringBuilder cookie = new StringBuilder();
+            cookies.forEach((name, value) -> cookie.append(cookie.length() == 0 ? "" : "; ").append(name).append('=').append(value));
+            connection.setRequestProperty("Cookie", cookie.toString());
+        }
+        return connection;
+    }
+
+    private Response execute(HttpURLConnection connection) throws IOException {
+        int status = connection.getResponseCode();
+        List<String> setCookies = connection.getHeaderFields().get("Set-Cookie");
+        if (setCookies != null) {
+            for (String setCookie : setCookies) {
+                String pair = setCookie.split(";", 2)[0];
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    cookies.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+                }
+            }
+        }
+        String location = connection.getHeaderField("Location");
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        if (in != null) {
+            try (InputStream body = in) {
+                while (body.read(buffer) >= 0) {
+                    //keep-alive 재사용을 위해 body 를 끝까지 읽음
+                }
+            }
+        }
+        return new Response(status, location);
+    }
+
+    private static String encode(String value) throws UnsupportedEncodingException {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Response {
+        private final int status;
+        private final String location;
+
+        /**
+         * @param path query string 을 제외한 redirect 경로
+         */
+        boolean isRedirectTo(String path) {
+            if (status != HttpURLConnection.HTTP_MOVED_TEMP || location == null) {
+                return false;
+            }
+            int scheme = location.indexOf("://");
+            int start = scheme < 0 ? 0 : location.indexOf('/', scheme + 3);
+            if (start < 0) {
+                return false;
+            }
+            int query = location.indexOf('?', start);
+            return location.substring(start, query < 0 ? location.length() : query).equals(path);
+        }
+    }
+}
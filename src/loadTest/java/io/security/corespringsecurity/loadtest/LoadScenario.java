@@ -0,0 +1,180 @@
+package io.security.corespringsecurity.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * 가상 사용자(스레드) threads 명이 동시에 요청을 반복하는 시나리오
+ *      : 가상 사용자 생성(로그인 등 준비 단계)은 측정에 포함하지 않는다.
+ *      : warmup 동안의 요청은 기록하지 않고, 이후 duration 동안의 요청만 기록한다.
+ *      : expected 를 만족하지 않는 응답과 연결 실패는 errors 로 집계한다.
+ */
+class LoadScenario {
+
+    static final String IO_ERROR = "io_error";
+
+    /**
+     * 가상 사용자 1명 ; 스레드 1개가 전용으로 사용한다.
+     */
+    interface VirtualUser {
+        /**
+         * @param sequence 모든 가상 사용자가 공유하는 요청 일련번호 (username 생성 등에 사용)
+         */
+        LoadClient.Response execute(long sequence) throws IOException;
+    }
+
+    interface VirtualUserFactory {
+        /**
+         * @param index 가상 사용자 번호 (0 ~ threads - 1)
+         */
+        VirtualUser create(int index) throws IOException;
+    }
+
+    private final String name;
+    private final int threads;
+    private final VirtualUserFactory factory;
+    private final Predicate<LoadClient.Response> expected;
+
+    LoadScenario(String name, int threads, VirtualUserFactory factory, Predicate<LoadClient.Response> expected) {
+        this.name = name;
+        this.threads = threads;
+        this.factory = factory;
+        this.expected = expected;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    ScenarioResult run(long warmupMillis, long durationMillis) throws Exception {
+        AtomicLong sequence = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Exception> setupFailure = new AtomicReference<>();
+        long[] measureStart = new long[1];
+        List<Recorder> recorders = new ArrayList<>();
+        List<Thread> workers = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            Thread worker = new Thread(() -> {
+                VirtualUser user;
+                try {
+                    user = factory.create(index);
+                } catch (Exception e) {
+                    setupFailure.compareAndSet(null, e);
+                    return;
+                } finally {
+                    ready.countDown();
+                }
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long measureFrom = measureStart[0];
+                long measureUntil = measureFrom + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+                long begin;
+                while ((begin = System.nanoTime()) < measureUntil) {
+                    String status;
+                    boolean ok;
+                    try {
+                        LoadClient.Response response = user.execute(sequence.getAndIncrement());
+                        status = String.valueOf(response.getStatus());
+                        ok = expected.test(response);
+                    } catch (IOException e) {
+                        status = IO_ERROR;
+                        ok = false;
+                    }
+                    if (begin >= measureFrom) {
+                        recorder.record(System.nanoTime() - begin, status, ok);
+                    }
+                }
+            }, "load-" + name + "-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        ready.await();
+        if (setupFailure.get() != null) {
+            start.countDown();
+            throw new IllegalStateException("Failed to prepare virtual users for " + name, setupFailure.get());
+        }
+        measureStart[0] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+        start.countDown();//start.await() 이후 measureStart 를 읽으므로 happens-before 가 보장됨
+
+        TimeUnit.MILLISECONDS.sleep(warmupMillis);
+        GcStats gcBefore = GcStats.snapshot();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        GcStats gc = GcStats.snapshot().minus(gcBefore);
+
+        return result(recorders, durationMillis, gc);
+    }
+
+    private ScenarioResult result(List<Recorder> recorders, long durationMillis, GcStats gc) {
+        int total = 0;
+        for (Recorder recorder : recorders) {
+            total += recorder.size;
+        }
+        long[] latencies = new long[total];
+        long errors = 0;
+        Map<String, Long> statuses = new TreeMap<>();
+        int offset = 0;
+        for (Recorder recorder : recorders) {
+            System.arraycopy(recorder.nanos, 0, latencies, offset, recorder.size);
+            offset += recorder.size;
+            errors += recorder.errors;
+            recorder.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+        Arrays.sort(latencies);
+
+        double seconds = durationMillis / 1_000.0;
+        return new ScenarioResult(
+                name,
+                threads,
+                seconds,
+                total,
+                errors,
+                Math.round(total / seconds * 10) / 10.0,
+                ScenarioResult.Latency.of(latencies),
+                statuses,
+                gc,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    /**
+     * 스레드 1개의 측정값 (스레드 종료 후 join 한 스레드에서만 읽음)
+     */
+    private static class Recorder {
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+        private final Map<String, Long> statuses = new TreeMap<>();
+
+        private void record(long elapsedNanos, String status, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = elapsedNanos;
+            statuses.merge(status, 1L, Long::sum);
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+}
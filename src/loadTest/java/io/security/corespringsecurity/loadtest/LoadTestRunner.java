@@ -0,0 +1,237 @@
+package io.security.corespringsecurity.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.security.corespringsecurity.CoreSpringSecurityApplication;
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.security.corespringsecurity.constants.RoleConstant.*;
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+import static io.security.corespringsecurity.constants.UserConstant.*;
+
+/**
+ * 부하 테스트 (./gradlew loadTest)
+ *      : PostgreSQL 대신 embedded H2(PostgreSQL mode) 로 애플리케이션을 random port 에 실행하고,
+ *        user0, manager1, admin2 ... 처럼 UserConstant 형식의 계정 N 개를 저장한 뒤 시나리오를 차례로 실행한다.
+ *      : 결과(처리량, 응답시간 백분위, GC)는 JSON 으로 저장해서 변경 전후 baseline 으로 비교한다.
+ *
+ * 시나리오
+ *      : loginStorm ; 매번 새 session 으로 form 로그인 (BCrypt 검증 + UserCache)
+ *      : pageAccess ; 권한이 다른 사용자가 로그인 후 /, /mypage, /messages, /config 를 번갈아 요청 (인가 결정)
+ *      : mypage ; USER 권한 사용자가 로그인 후 /mypage 만 요청
+ *      : registrationBurst ; 회원가입 요청 (BCrypt 해시 + insert)
+ *
+ * 요청 처리 방식 비교(thread-per-request, virtual thread)는 build.gradle 의 loadTestVirtualThreads task 참고
+ *
+ * 설정 (system property ; build.gradle 의 loadTest task 에서 -Ploadtest.xxx 로 전달)
+ *      : loadtest.accounts, loadtest.threads, loadtest.warmup(초), loadtest.duration(초), loadtest.scenarios, loadtest.output
+ *      : 프로그램 인자(--key=value, -Ploadtest.args)는 애플리케이션 설정으로 전달되고, 아래 기본값보다 우선한다.
+ */
+public class LoadTestRunner {
+
+    private static final String LOGIN_STORM = "loginStorm";
+    private static final String PAGE_ACCESS = "pageAccess";
+    private static final String MYPAGE = "mypage";
+    private static final String REGISTRATION_BURST = "registrationBurst";
+
+    private static final String[] ROLES = {USER_ROLE, MANAGER_ROLE, ADMIN_ROLE};
+    private static final String[] ACCOUNT_PREFIXES = {USER_ID, MANAGER_ID, ADMIN_ID};
+    private static final String[] PAGES = {ROOT_URL, MYPAGE_URL, MESSAGES_URL, CONFIG_URL};
+
+    /**
+     * 애플리케이션 기본 설정 ; 같은 IP(localhost)에서 로그인하므로 로그인 제한은 사실상 해제한다.
+     */
+    private static final String[] DEFAULT_APPLICATION_ARGS = {
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--spring.thymeleaf.cache=true",
+            "--security.login-throttle.username-limit=" + Integer.MAX_VALUE,
+            "--security.login-throttle.ip-limit=" + Integer.MAX_VALUE,
+    };
+
+    public static void main(String[] args) throws Exception {
+        int accounts = Integer.getInteger("loadtest.accounts", 1000);
+        int threads = Integer.getInteger("loadtest.threads", 32);
+        long warmupMillis = Long.getLong("loadtest.warmup", 5) * 1_000;
+        long durationMillis = Long.getLong("loadtest.duration", 20) * 1_000;
+        List<String> scenarioNames = Arrays.asList(System.getProperty("loadtest.scenarios", LOGIN_STORM + "," + PAGE_ACCESS + "," + MYPAGE + "," + REGISTRATION_BURST).split(","));
+        File output = new File(System.getProperty("loadtest.output", "build/results/loadTest/results.json"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CoreSpringSecurityApplication.class)
+                .run(applicationArgs(args));
+        try {
+            seedAccounts(context, accounts);
+            String baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (LoadScenario scenario : scenarios(baseUrl, accounts, threads)) {
+                if (!scenarioNames.contains(scenario.getName())) {
+                    continue;
+                }
+                ScenarioResult result = scenario.run(warmupMillis, durationMillis);
+                System.out.printf("%-18s requests=%d errors=%d throughput=%.1f/s p50=%.3fms p99=%.3fms gc=%d(%dms) statuses=%s%n",
+                        result.getName(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                        result.getLatencyMillis().getP50(), result.getLatencyMillis().getP99(),
+                        result.getGc().getCollections(), result.getGc().getCollectionMillis(), result.getStatuses());
+                results.add(result);
+            }
+
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("accounts", accounts);
+            settings.put("threads", threads);
+            settings.put("warmupSeconds", warmupMillis / 1_000);
+            settings.put("durationSeconds", durationMillis / 1_000);
+            settings.put("applicationArgs", args);
+            settings.put("virtualThreads", context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+            Map<String, Object> jvm = new LinkedHashMap<>();
+            jvm.put("version", System.getProperty("java.version"));
+            jvm.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+            jvm.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+            jvm.put("inputArguments", ManagementFactory.getRuntimeMXBean().getInputArguments());
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("timestamp", Instant.now().toString());
+            report.put("settings", settings);
+            report.put("jvm", jvm);
+            report.put("scenarios", results);
+
+            output.getAbsoluteFile().getParentFile().mkdirs();
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+            System.out.println("load test results: " + output.getAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<LoadScenario> scenarios(String baseUrl, int accounts, int threads) {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        scenarios.add(new LoadScenario(LOGIN_STORM, threads,
+                index -> {
+                    LoadClient client = new LoadClient(baseUrl);
+                    return sequence -> {
+                        client.newSession();
+                        return login(client, (int) (sequence % accounts));
+                    };
+                },
+                LoadTestRunner::isLoginSuccess));
+        scenarios.add(new LoadScenario(PAGE_ACCESS, threads,
+                index -> {
+                    LoadClient client = new LoadClient(baseUrl);
+                    if (!isLoginSuccess(login(client, index % accounts))) {
+                        throw new IllegalStateException("Login failed: " + username(index % accounts));
+                    }
+                    return sequence -> client.get(PAGES[(int) (sequence % PAGES.length)]);
+                },
+                response -> response.getStatus() == 200 || response.isRedirectTo(DENIED_URL)));
+        scenarios.add(new LoadScenario(MYPAGE, threads,
+                index -> {
+                    int account = index % Math.max(1, accounts / ROLES.length) * ROLES.length;//user0, user3 ... (USER 권한)
+                    LoadClient client = new LoadClient(baseUrl);
+                    if (!isLoginSuccess(login(client, account))) {
+                        throw new IllegalStateException("Login failed: " + username(account));
+                    }
+                    return sequence -> client.get(MYPAGE_URL);
+                },
+                response -> response.getStatus() == 200));
+        String runId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+        scenarios.add(new LoadScenario(REGISTRATION_BURST, threads,
+                index -> {
+                    LoadClient client = new LoadClient(baseUrl);
+                    return sequence -> {
+                        Map<String, String> parameters = new LinkedHashMap<>();
+                        parameters.put("username", "burst-" + runId + "-" + sequence);
+                        parameters.put("password", PASSWORD);
+                        parameters.put("email", "burst" + sequence + "@aa.com");
+                        parameters.put("age", "20");
+                        parameters.put("role", "ROLE_" + USER_ROLE);
+                        return client.postForm(USERS_URL, parameters);
+                    };
+                },
+                response -> response.isRedirectTo(ROOT_URL)));
+        return scenarios;
+    }
+
+    private static LoadClient.Response login(LoadClient client, int account) throws IOException {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("username", username(account));
+        parameters.put("password", PASSWORD);
+        parameters.put("secret_key", "secret");
+        return client.postForm(LOGIN_PROC_URL, parameters);
+    }
+
+    /**
+     * 로그인 성공시 저장된 요청 또는 / 로, 실패시 /login?error... 로 redirect 된다.
+     */
+    private static boolean isLoginSuccess(LoadClient.Response response) {
+        return response.getStatus() == 302 && response.getLocation() != null && !response.getLocation().contains(LOGIN_URL);
+    }
+
+    /**
+     * user0, manager1, admin2, user3 ... ; 권한은 번호 % 3 으로 정해진다.
+     */
+    private static String username(int account) {
+        return ACCOUNT_PREFIXES[account % ROLES.length] + account;
+    }
+
+    /**
+     * 모든 계정이 같은 비밀번호를 사용하므로 해시는 한번만 계산해서 저장한다.
+     * 회원가입을 거치지 않고 저장하므로 username filter 에도 직접 추가한다.
+     */
+    private static void seedAccounts(ConfigurableApplicationContext context, int accounts) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        UsernameBloomFilter usernameBloomFilter = context.getBean(UsernameBloomFilter.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<Account> batch = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            usernameBloomFilter.put(username(i));
+            batch.add(Account.builder()
+                    .username(username(i))
+                    .password(encodedPassword)
+                    .email(username(i) + "@aa.com")
+                    .age("20")
+                    .role("ROLE_" + ROLES[i % ROLES.length])
+                    .build());
+            if (batch.size() == 500) {
+                userRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        userRepository.saveAll(batch);
+    }
+
+    private static String[] applicationArgs(String[] args) {
+        Map<String, String> merged = new LinkedHashMap<>();
+        for (String arg : DEFAULT_APPLICATION_ARGS) {
+            merged.put(key(arg), arg);
+        }
+        for (String arg : args) {
+            merged.put(key(arg), arg);
+        }
+        return merged.values().toArray(new String[0]);
+    }
+
+    private static String key(String arg) {
+        int eq = arg.indexOf('=');
+        return eq < 0 ? arg : arg.substring(0, eq);
+    }
+}
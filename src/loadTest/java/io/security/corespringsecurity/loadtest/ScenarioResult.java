@@ -0,0 +1,65 @@
+package io.security.corespringsecurity.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 시나리오 1개의 측정 결과 (results.json 의 scenarios 항목)
+ */
+@Getter
+@AllArgsConstructor
+class ScenarioResult {
+
+    private final String name;
+    private final int threads;
+    private final double durationSeconds;
+    private final long requests;
+    private final long errors;
+    private final double throughput;//requests/s
+    private final Latency latencyMillis;
+    private final Map<String, Long> statuses;//응답 상태 코드(연결 실패는 io_error) -> 건수
+    private final GcStats gc;
+    private final long heapUsedBytes;
+
+    @Getter
+    @AllArgsConstructor
+    static class Latency {
+        private final double mean;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        /**
+         * @param sortedNanos 오름차순으로 정렬된 응답시간(ns)
+         */
+        static Latency of(long[] sortedNanos) {
+            if (sortedNanos.length == 0) {
+                return new Latency(0, 0, 0, 0, 0, 0);
+            }
+            double total = 0;
+            for (long nanos : sortedNanos) {
+                total += nanos;
+            }
+            return new Latency(
+                    millis(total / sortedNanos.length),
+                    millis(percentile(sortedNanos, 0.50)),
+                    millis(percentile(sortedNanos, 0.90)),
+                    millis(percentile(sortedNanos, 0.99)),
+                    millis(percentile(sortedNanos, 0.999)),
+                    millis(sortedNanos[sortedNanos.length - 1]));
+        }
+
+        private static long percentile(long[] sortedNanos, double percentile) {
+            int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(index, 0)];
+        }
+
+        private static double millis(double nanos) {
+            return Math.round(nanos / 1_000) / 1_000.0;
+        }
+    }
+}
@@ -9,5 +9,11 @@ public class UrlConstant {
     public static final String CONFIG_URL = "/config";
     public static final String ROOT_URL = "/";
     public static final String USERS_URL = "/users";
+    public static final String USERS_BULK_URL = "/users/bulk";
     public static final String LOGIN_PROC_URL = "/login_proc";
+    public static final String API_URL = "/api/**";
+    public static final String API_LOGIN_URL = "/api/login";
+    public static final String HEALTH_URL = "/actuator/health";
+    public static final String PROMETHEUS_URL = "/actuator/prometheus";
+    public static final String FILTER_TIMINGS_URL = "/actuator/securityfilters";
 }
\ No newline at end of file
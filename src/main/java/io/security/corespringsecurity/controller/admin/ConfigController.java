@@ -1,13 +1,30 @@
 package io.security.corespringsecurity.controller.admin;
 
+import io.security.corespringsecurity.security.metadatasource.UrlFilterInvocationSecurityMetadataSource;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 
 @Controller
+@RequiredArgsConstructor
 public class ConfigController {
 
+    private final UrlFilterInvocationSecurityMetadataSource urlFilterInvocationSecurityMetadataSource;
+
     @GetMapping("/config")
     public String config(){
         return "admin/config";
     }
+
+    /**
+     * DB 에서 변경된 url 자원/권한 정보를 다시 읽어와서 인가 정보에 반영한다.(재배포 불필요)
+     *
+     * @return
+     */
+    @PostMapping("/config/reload")
+    public String reload() {
+        urlFilterInvocationSecurityMetadataSource.reload();
+        return "redirect:/config";
+    }
 }
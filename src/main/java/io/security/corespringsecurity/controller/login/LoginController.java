@@ -1,9 +1,9 @@
 package io.security.corespringsecurity.controller.login;
 
-import io.security.corespringsecurity.domain.Account;
-import org.modelmapper.ModelMapper;
+import io.security.corespringsecurity.security.token.SignedTokenService;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.logout.CookieClearingLogoutHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Controller;
@@ -16,6 +16,7 @@ import javax.servlet.http.HttpServletResponse;
 
 @Controller
 public class LoginController {
+
     @GetMapping("/login")
     public String login(@RequestParam(value = "error", required = false) String error,
                         @RequestParam(value = "exception", required = false) String exception,
@@ -36,6 +37,8 @@ public class LoginController {
      * 인증 여부에 따라 로그인/로그아웃 표현(타임리프에서 제공하는 메서드; 태그노출에 자주 사용되는 메서드)
      * {@code <li sec:authorize="isAnonymous()"><a th:href="@{/login}">로그인</a></li>}
      * {@code <li sec:authorize="isAuthenticated()"><a th:href="@{/logout}">로그아웃</a></li>}
+     * <p>
+     * stateless 모드에서는 세션 대신 토큰 쿠키({@link SignedTokenService#TOKEN_COOKIE_NAME})를 삭제해야 로그아웃 처리가 됨
      *
      * @param request
      * @param response
@@ -46,6 +49,7 @@ public class LoginController {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();//인증객체
         if (authentication != null) {
             new SecurityContextLogoutHandler().logout(request, response, authentication);//session.invalidate();, 인증객체 비움
+            new CookieClearingLogoutHandler(SignedTokenService.TOKEN_COOKIE_NAME).logout(request, response, authentication);//토큰 쿠키 삭제
         }
         return "redirect:/login";
     }
@@ -53,13 +57,12 @@ public class LoginController {
     @GetMapping("/denied")
     public String accessDenied(@RequestParam(value = "exception", required = false) String exception,
                                Model model) {
-        //현재 사용자 이름
+        //현재 사용자 이름 (principal 이 AccountPrincipal 이므로 getName() 이 username)
         Authentication authentication = SecurityContextHolder.getContext()
                 .getAuthentication();
-        Account account = new ModelMapper().map(authentication.getPrincipal(), Account.class);
 
         //사용자가 자원을 체크하지 못하는 message 출력
-        model.addAttribute("username", account.getUsername());
+        model.addAttribute("username", authentication.getName());
         model.addAttribute("exception", exception);
         return "user/login/denied";
     }
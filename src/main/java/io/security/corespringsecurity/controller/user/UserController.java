@@ -3,15 +3,22 @@ package io.security.corespringsecurity.controller.user;
 
 import io.security.corespringsecurity.domain.Account;
 import io.security.corespringsecurity.domain.AccountDto;
+import io.security.corespringsecurity.domain.BulkImportResult;
+import io.security.corespringsecurity.service.UserBulkImportService;
 import io.security.corespringsecurity.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 
 @Controller
 @RequiredArgsConstructor
@@ -19,6 +26,8 @@ public class UserController {
 
 	private final UserService userService;
 	private final PasswordEncoder passwordEncoder;
+	private final UserBulkImportService userBulkImportService;
+	private final ModelMapper modelMapper;
 
 	@GetMapping(value="/mypage")
 	public String myPage() throws Exception {
@@ -33,10 +42,21 @@ public class UserController {
 
 	@PostMapping("/users")
 	public String createUser(AccountDto accountDto) {
-		Account account = new ModelMapper().map(accountDto, Account.class);
+		Account account = modelMapper.map(accountDto, Account.class);
 		account.setPassword(passwordEncoder.encode(account.getPassword()));
 
 		userService.createUser(account);
 		return "redirect:/";
 	}
+
+	/**
+	 * 회원 일괄 등록 (ADMIN)
+	 *      : 요청 body 를 그대로 읽어서 처리 ; Content-Type text/csv 또는 application/x-ndjson
+	 */
+	@PostMapping(value = "/users/bulk", consumes = {"text/csv", "application/x-ndjson"})
+	@ResponseBody
+	public BulkImportResult createUsers(HttpServletRequest request) throws IOException {
+		UserBulkImportService.Format format = UserBulkImportService.Format.of(MediaType.parseMediaType(request.getContentType()));
+		return userBulkImportService.importUsers(request.getInputStream(), format);
+	}
 }
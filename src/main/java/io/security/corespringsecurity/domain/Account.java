@@ -1,21 +1,42 @@
 package io.security.corespringsecurity.domain;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
-import javax.persistence.Entity;
-import javax.persistence.GeneratedValue;
-import javax.persistence.Id;
+import javax.persistence.*;
 
+/**
+ * 회원
+ *
+ * username 은 로그인 시 조회 키이므로 {@link NaturalId} 로 선언하고 (hibernate 가 unique 제약을 만들고, DB 가 그 제약으로 index 를 만든다),
+ * 2차 캐시(account, account-natural-id region)에 두어 반복 로그인시 DB 를 조회하지 않도록 한다.
+ *      : username -> id 는 natural-id region, id -> Account 는 entity region 에서 조회
+ *      : region 설정은 application.conf(caffeine.jcache)
+ */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Account.CACHE_REGION)
+@NaturalIdCache(region = Account.NATURAL_ID_CACHE_REGION)
 @Getter
 @Setter
 @EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Account {
+    public static final String CACHE_REGION = "account";
+    public static final String NATURAL_ID_CACHE_REGION = "account-natural-id";
+
+    /**
+     * 일괄 등록시 insert 마다 sequence 를 조회하지 않도록 50 개씩 할당(pooled)
+     */
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
+    @Column(nullable = false)
     private String username;
     private String password;
     private String email;
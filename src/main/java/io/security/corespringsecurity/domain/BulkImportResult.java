@@ -0,0 +1,52 @@
+package io.security.corespringsecurity.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 일괄 등록 결과
+ *      : errors 는 최대 maxErrors 건까지만 담고, 나머지는 failed 건수에만 반영한다.
+ */
+@Getter
+public class BulkImportResult {
+
+    private long processed;
+    private long imported;
+    private long failed;
+    private final List<RowError> errors = new ArrayList<>();
+    @JsonIgnore
+    private final int maxErrors;
+
+    public BulkImportResult(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void imported(int count) {
+        processed += count;
+        imported += count;
+    }
+
+    public void failed(long line, String username, String message) {
+        processed++;
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, username, message));
+        }
+    }
+
+    public boolean isErrorsTruncated() {
+        return failed > errors.size();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long line;
+        private final String username;
+        private final String message;
+    }
+}
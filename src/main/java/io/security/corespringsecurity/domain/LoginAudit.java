@@ -0,0 +1,28 @@
+package io.security.corespringsecurity.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 시도 기록
+ *      : 저장은 JDBC batch insert 로 한다 => JdbcLoginAuditWriter
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_login_audit_username", columnList = "username"))
+public class LoginAudit {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDateTime createdAt;
+    private String username;
+    private String remoteAddress;
+    private String outcome;
+    private String exceptionType;
+}
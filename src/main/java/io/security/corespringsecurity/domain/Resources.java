@@ -0,0 +1,44 @@
+package io.security.corespringsecurity.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * url 자원과 접근 권한
+ *      : resourceName 은 ant pattern (ex. /mypage, /admin/**)
+ *      : orderNum 이 작은 자원이 먼저 비교된다.
+ *      : permitAll 이면 모두 접근 가능, roleSet 이 비어있으면 인증 사용자만 접근 가능, 아니면 roleSet 중 하나의 권한이 필요
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Resources {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String resourceName;
+    private int orderNum;
+    private boolean permitAll;
+
+    @ManyToMany
+    @JoinTable(name = "role_resources",
+            joinColumns = @JoinColumn(name = "resource_id"),
+            inverseJoinColumns = @JoinColumn(name = "role_id"))
+    private Set<Role> roleSet = new HashSet<>();
+
+    @Builder
+    public Resources(Long id, String resourceName, int orderNum, boolean permitAll, Set<Role> roleSet) {
+        this.id = id;
+        this.resourceName = resourceName;
+        this.orderNum = orderNum;
+        this.permitAll = permitAll;
+        if (roleSet != null) {
+            this.roleSet = roleSet;
+        }
+    }
+}
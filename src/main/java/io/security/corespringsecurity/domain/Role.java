@@ -0,0 +1,33 @@
+package io.security.corespringsecurity.domain;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+/**
+ * 권한
+ *      : roleName 은 "ROLE_" prefix 를 포함한 권한 이름 (ex. ROLE_ADMIN)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Role {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(unique = true)
+    private String roleName;
+    private String roleDesc;
+
+    @Builder
+    public Role(Long id, String roleName, String roleDesc) {
+        this.id = id;
+        this.roleName = roleName;
+        this.roleDesc = roleDesc;
+    }
+}
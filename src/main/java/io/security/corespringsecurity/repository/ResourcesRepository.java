@@ -0,0 +1,12 @@
+package io.security.corespringsecurity.repository;
+
+import io.security.corespringsecurity.domain.Resources;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ResourcesRepository extends JpaRepository<Resources, Long> {
+    @Query("select distinct r from Resources r left join fetch r.roleSet order by r.orderNum")
+    List<Resources> findAllResources();
+}
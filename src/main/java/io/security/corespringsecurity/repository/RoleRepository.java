@@ -0,0 +1,8 @@
+package io.security.corespringsecurity.repository;
+
+import io.security.corespringsecurity.domain.Role;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RoleRepository extends JpaRepository<Role, Long> {
+    Role findByRoleName(String roleName);
+}
@@ -2,7 +2,30 @@ package io.security.corespringsecurity.repository;
 
 import io.security.corespringsecurity.domain.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface UserRepository extends JpaRepository<Account, Long> {
-    Account findByUsername(String username);
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * findByUsername 은 {@link UserRepositoryCustom} 에서 natural-id 조회로 구현
+ */
+public interface UserRepository extends JpaRepository<Account, Long>, UserRepositoryCustom {
+
+    /**
+     * @return usernames 중 이미 등록된 username
+     */
+    @Query("select a.username from Account a where a.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * @return 전체 username ; 한번에 읽지 않고 fetch size 단위로 읽으므로 transaction 안에서 사용하고 close 해야 한다.
+     */
+    @Query("select a.username from Account a")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    Stream<String> streamAllUsernames();
 }
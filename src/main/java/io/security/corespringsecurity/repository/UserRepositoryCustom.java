@@ -0,0 +1,10 @@
+package io.security.corespringsecurity.repository;
+
+import io.security.corespringsecurity.domain.Account;
+
+public interface UserRepositoryCustom {
+    /**
+     * @return username 에 해당하는 회원, 없으면 null
+     */
+    Account findByUsername(String username);
+}
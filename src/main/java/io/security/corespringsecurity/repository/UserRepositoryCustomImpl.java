@@ -0,0 +1,30 @@
+package io.security.corespringsecurity.repository;
+
+import io.security.corespringsecurity.domain.Account;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * 파생 쿼리(select ... where username=?) 대신 {@link Session#bySimpleNaturalId(Class)} 로 조회
+ *      : 쿼리는 2차 캐시를 거치지 않지만, natural-id 조회는 natural-id region -> entity region 순으로 캐시를 먼저 확인한다.
+ *      : Session 을 직접 사용하므로 transaction 밖(로그인 filter 등)에서 호출되어도 transaction 을 연다.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Account findByUsername(String username) {
+        if (username == null) {
+            return null;
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Account.class)
+                .load(username);
+    }
+}
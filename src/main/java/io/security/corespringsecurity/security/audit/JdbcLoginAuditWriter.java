@@ -0,0 +1,38 @@
+package io.security.corespringsecurity.security.audit;
+
+import io.security.corespringsecurity.domain.LoginAudit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link LoginAudit} 테이블에 JDBC batch insert
+ */
+public class JdbcLoginAuditWriter implements LoginAuditWriter {
+
+    private static final String INSERT_SQL =
+            "insert into login_audit (created_at, username, remote_address, outcome, exception_type) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcLoginAuditWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(List<LoginAuditEvent> events) {
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (LoginAuditEvent event : events) {
+            args.add(new Object[]{
+                    new Timestamp(event.getTimestamp()),
+                    event.getUsername(),
+                    event.getRemoteAddress(),
+                    event.getOutcome().name(),
+                    event.getExceptionType()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
@@ -0,0 +1,53 @@
+package io.security.corespringsecurity.security.audit;
+
+/**
+ * 로그인 시도 기록 (불변)
+ */
+public final class LoginAuditEvent {
+
+    public enum Outcome {
+        SUCCESS, FAILURE
+    }
+
+    private final long timestamp;
+    private final String username;
+    private final String remoteAddress;
+    private final Outcome outcome;
+    private final String exceptionType;
+
+    public LoginAuditEvent(long timestamp, String username, String remoteAddress, Outcome outcome, String exceptionType) {
+        this.timestamp = timestamp;
+        this.username = username;
+        this.remoteAddress = remoteAddress;
+        this.outcome = outcome;
+        this.exceptionType = exceptionType;
+    }
+
+    public static LoginAuditEvent success(String username, String remoteAddress) {
+        return new LoginAuditEvent(System.currentTimeMillis(), username, remoteAddress, Outcome.SUCCESS, null);
+    }
+
+    public static LoginAuditEvent failure(String username, String remoteAddress, Class<? extends Exception> exceptionType) {
+        return new LoginAuditEvent(System.currentTimeMillis(), username, remoteAddress, Outcome.FAILURE, exceptionType.getSimpleName());
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public String getExceptionType() {
+        return exceptionType;
+    }
+}
@@ -0,0 +1,11 @@
+package io.security.corespringsecurity.security.audit;
+
+import java.util.List;
+
+/**
+ * 로그인 기록 저장소
+ */
+public interface LoginAuditWriter {
+
+    void write(List<LoginAuditEvent> events);
+}
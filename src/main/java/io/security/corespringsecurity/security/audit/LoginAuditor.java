@@ -0,0 +1,49 @@
+package io.security.corespringsecurity.security.audit;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 로그인 시도 기록
+ *      : 요청 스레드에서 호출되므로 구현체는 저장을 기다리지 않고 바로 반환해야 한다.
+ */
+public interface LoginAuditor {
+
+    LoginAuditor NO_OP = event -> {
+    };
+
+    /**
+     * 요청 파라미터가 아닌 body(JSON) 로 username 을 받는 인증 필터는 이 attribute 에 username 을 담는다.
+     */
+    String USERNAME_ATTRIBUTE = LoginAuditor.class.getName() + ".USERNAME";
+
+    void record(LoginAuditEvent event);
+
+    default void recordSuccess(HttpServletRequest request, Authentication authentication) {
+        String username = authentication.getName();
+        Object details = authentication.getDetails();
+        String remoteAddress = details instanceof WebAuthenticationDetails
+                ? ((WebAuthenticationDetails) details).getRemoteAddress()
+                : request.getRemoteAddr();
+        record(LoginAuditEvent.success(username, remoteAddress));
+    }
+
+    /**
+     * 인증 실패시에는 인증 객체가 없으므로 요청 파라미터(또는 {@link #USERNAME_ATTRIBUTE})의 username, {@link WebAuthenticationDetails} 와 같은 remoteAddr 를 기록한다.
+     */
+    default void recordFailure(HttpServletRequest request, AuthenticationException exception) {
+        String username = request.getParameter(UsernamePasswordAuthenticationFilter.SPRING_SECURITY_FORM_USERNAME_KEY);
+        if (username == null) {
+            Object attribute = request.getAttribute(USERNAME_ATTRIBUTE);
+            username = attribute instanceof String ? (String) attribute : null;
+        }
+        record(LoginAuditEvent.failure(
+                username,
+                request.getRemoteAddr(),
+                exception.getClass()));
+    }
+}
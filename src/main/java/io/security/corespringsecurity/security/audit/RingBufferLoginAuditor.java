@@ -0,0 +1,143 @@
+package io.security.corespringsecurity.security.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인 기록을 lock-free ring buffer 에 넣고, 백그라운드 스레드가 batch 로 저장하는 {@link LoginAuditor}
+ *
+ * 요청 스레드 (여러개)
+ *      : tail 을 CAS 로 증가시켜 slot 을 확보한 뒤 기록을 넣는다. lock, 대기 없음
+ *      : buffer 가 가득 차면 기록을 버리고 dropped 카운터를 증가시킨다.(로그인 지연 없음)
+ * 저장 스레드 (1개)
+ *      : head 부터 채워진 slot 을 batchSize 만큼 꺼내서 {@link LoginAuditWriter} 로 저장한다.
+ *      : 꺼낼 기록이 없으면 flushInterval 만큼 쉰다.
+ *      : 저장에 실패한 batch 는 버리고 failed 카운터를 증가시킨다.
+ */
+public class RingBufferLoginAuditor implements LoginAuditor, InitializingBean, DisposableBean {
+
+    public static final String METRIC_PREFIX = "security.login.audit";
+
+    private final LoginAuditWriter writer;
+    private final AtomicReferenceArray<LoginAuditEvent> buffer;
+    private final int mask;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    /**
+     * @param writer
+     * @param bufferSize 2의 거듭제곱으로 올림
+     * @param batchSize 한번에 저장할 최대 기록 수
+     * @param flushInterval 저장할 기록이 없을 때 대기 시간
+     * @param meterRegistry
+     */
+    public RingBufferLoginAuditor(LoginAuditWriter writer, int bufferSize, int batchSize, Duration flushInterval, MeterRegistry meterRegistry) {
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        this.writer = writer;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.dropped = Counter.builder(METRIC_PREFIX + ".dropped").register(meterRegistry);
+        this.written = Counter.builder(METRIC_PREFIX + ".written").register(meterRegistry);
+        this.failed = Counter.builder(METRIC_PREFIX + ".failed").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".buffer", this, RingBufferLoginAuditor::size).register(meterRegistry);
+    }
+
+    @Override
+    public void record(LoginAuditEvent event) {
+        long slot;
+        do {
+            slot = tail.get();
+            if (slot - head >= buffer.length()) {
+                dropped.increment();
+                return;
+            }
+        } while (!tail.compareAndSet(slot, slot + 1));
+        buffer.lazySet((int) slot & mask, event);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        writerThread = new Thread(this::run, "login-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(Duration.ofSeconds(5).toMillis());
+        }
+    }
+
+    public int size() {
+        return (int) (tail.get() - head);
+    }
+
+    private void run() {
+        List<LoginAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (drain(batch) == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        while (drain(batch) > 0) {
+            //종료 전 남은 기록 저장
+        }
+    }
+
+    /**
+     * @return 저장 시도한 기록 수
+     */
+    int drain(List<LoginAuditEvent> batch) {
+        long current = head;
+        while (batch.size() < batchSize) {
+            int index = (int) current & mask;
+            LoginAuditEvent event = buffer.get(index);
+            if (event == null) {
+                break;//비어있거나, slot 을 확보한 요청 스레드가 아직 기록을 넣지 않음
+            }
+            buffer.lazySet(index, null);
+            batch.add(event);
+            current++;
+        }
+        head = current;
+
+        int size = batch.size();
+        if (size > 0) {
+            try {
+                writer.write(batch);
+                written.increment(size);
+            } catch (RuntimeException e) {
+                failed.increment(size);
+            } finally {
+                batch.clear();
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,121 @@
+package io.security.corespringsecurity.security.authority;
+
+import io.security.corespringsecurity.constants.RoleConstant;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 권한(role) 이름 -> 권한 목록, bit 레지스트리
+ *
+ * 등록되는 권한
+ *      : {@link RoleConstant} 의 권한("ROLE_" + 권한)과 RoleRepository 에 저장된 권한({@link #register(String)})만 등록한다.
+ *      : 회원 정보의 role 은 사용자가 입력할 수 있으므로, 등록되지 않은 권한은 bit 를 부여하거나 저장하지 않는다. (레지스트리가 무한히 커지거나 bit 가 고갈되지 않도록)
+ *
+ * 권한 목록
+ *      : 등록된 권한마다 불변 권한 목록(singletonList)을 한번만 만들어 공유한다.
+ *      : 로그인마다 ArrayList, SimpleGrantedAuthority 를 새로 만들지 않는다.
+ *
+ * bit
+ *      : 등록된 권한(authority)마다 1개의 bit 를 부여한다. (최대 64개)
+ *      : 사용자의 권한 bitmask 와 url 접근 조건의 bitmask 를 AND 하여 hasAnyRole 을 판단한다.
+ *      : bit 는 JVM 마다 등록 순서에 따라 다를 수 있으므로 직렬화하지 않는다.
+ */
+public final class RoleAuthorities {
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    private static final int MAX_ROLES = Long.SIZE;
+
+    private static final ConcurrentMap<String, List<GrantedAuthority>> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Long> BITS = new ConcurrentHashMap<>();
+
+    static {
+        for (String role : new String[]{RoleConstant.USER_ROLE, RoleConstant.MANAGER_ROLE, RoleConstant.ADMIN_ROLE}) {
+            register(ROLE_PREFIX + role);
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * @param role 권한 이름
+     * @return 권한 이름 1개를 갖는 불변 권한 목록 ; 등록된 권한이면 공유 목록, 아니면 저장하지 않는 새 목록
+     */
+    public static List<GrantedAuthority> authorities(String role) {
+        List<GrantedAuthority> authorities = AUTHORITIES.get(role);
+        return authorities != null ? authorities : Collections.singletonList(new SimpleGrantedAuthority(role));
+    }
+
+    /**
+     * 권한 목록을 불변 목록으로 변환 ; 등록된 권한 1개이면 공유 권한 목록을 반환하고 새로 할당하지 않는다.
+     */
+    public static Collection<GrantedAuthority> canonical(Collection<? extends GrantedAuthority> authorities) {
+        if (authorities.size() == 1) {
+            return authorities(authorities.iterator().next().getAuthority());
+        }
+        return Collections.unmodifiableList(new ArrayList<>(authorities));
+    }
+
+    /**
+     * @param authorities 사용자 권한 목록
+     * @return 권한 목록의 bitmask (등록되지 않은 권한은 제외)
+     */
+    public static long mask(Collection<? extends GrantedAuthority> authorities) {
+        long mask = 0L;
+        for (GrantedAuthority authority : authorities) {
+            mask |= bit(authority.getAuthority());
+        }
+        return mask;
+    }
+
+    /**
+     * @param authority 권한 이름
+     * @return 등록된 권한의 bit, 등록되지 않은 권한이면 0 (등록하지 않는다)
+     */
+    public static long bit(String authority) {
+        Long bit = BITS.get(authority);
+        return bit != null ? bit : 0L;
+    }
+
+    /**
+     * RoleRepository 에 저장된 권한(url 접근 조건의 권한 포함)을 등록 ; 이미 등록된 권한이면 기존 bit 를 반환
+     *
+     * @param authority "ROLE_" 가 붙은 권한 이름
+     * @return 권한의 bit
+     * @throws IllegalStateException 이미 64개의 권한이 등록되어 bit 를 부여할 수 없는 경우
+     */
+    public static long register(String authority) {
+        Long bit = BITS.get(authority);
+        if (bit != null) {
+            return bit;
+        }
+        synchronized (BITS) {
+            bit = BITS.get(authority);
+            if (bit == null) {
+                if (BITS.size() == MAX_ROLES) {
+                    throw new IllegalStateException("Too many roles; at most " + MAX_ROLES + " roles are supported");
+                }
+                bit = 1L << BITS.size();
+                AUTHORITIES.put(authority, Collections.singletonList(new SimpleGrantedAuthority(authority)));
+                BITS.put(authority, bit);
+            }
+            return bit;
+        }
+    }
+
+    /**
+     * @param role "ROLE_" 가 있거나 없는 권한 이름
+     * @return "ROLE_" + 권한 이름
+     */
+    public static String withPrefix(String role) {
+        return role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role;
+    }
+}
@@ -0,0 +1,65 @@
+package io.security.corespringsecurity.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+/**
+ * {@link UserCache} 구현체
+ *      : {@link CustomUsersDetailsService#loadUserByUsername(String)} 결과({@link UserDetails})를 로컬 메모리에 보관
+ *      : 최대 크기(maximumSize)를 넘으면 오래 사용되지 않은 항목부터 제거
+ *      : 저장 후 expireAfterWrite 가 지나면 만료되어 다시 DB 에서 조회
+ *
+ * 계정 정보가 변경되는 경우(회원가입, 비밀번호 변경 등)
+ *      => {@link UserCache#removeUserFromCache(String)} 를 호출해서 캐시를 비워주어야 한다.
+ */
+public class CaffeineUserCache implements UserCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public CaffeineUserCache(long maximumSize, Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()//hit, miss, eviction 카운터
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(username);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * hitCount, missCount, evictionCount 등 캐시 통계
+     *
+     * @return
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * 캐시 통계를 metric 으로 등록할 때 사용 (CaffeineCacheMetrics)
+     *
+     * @return
+     */
+    public Cache<String, UserDetails> getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,129 @@
+package io.security.corespringsecurity.security.cache;
+
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 등록된 username 의 Bloom filter (없는 username 조회시 DB 조회를 생략하기 위한 negative cache)
+ *      : mightContain 이 false 이면 등록되지 않은 username 이 확실하다. (true 는 fpp 확률로 오탐)
+ *      : 서버 시작시 전체 username 으로 채우고(load 완료 전에는 항상 true), 회원가입시 {@link #put(String)} 로 추가한다.
+ *      : 삭제는 지원하지 않는다. (탈퇴 기능이 생기면 주기적으로 다시 만들어야 한다)
+ *      : 예상 username 수(expectedUsernames)를 넘어도 오탐률만 올라가고 누락은 없다.
+ *
+ * 회원가입(UserService, 일괄 등록)을 거치지 않고 DB 에 직접 저장한 username 은 다시 시작하기 전까지 알 수 없다.
+ * {@link CaffeineUserCache} 와 같이 서버 로컬 메모리에 보관하므로, 다른 서버에서 가입한 username 은 알 수 없다. (단일 서버 기준)
+ *
+ * @see CustomUsersDetailsService#loadUserByUsername(String)
+ */
+public class UsernameBloomFilter {
+
+    /**
+     * 항상 true 를 반환하는 filter (security.username-filter.enabled=false)
+     */
+    public static final UsernameBloomFilter DISABLED = new UsernameBloomFilter();
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private volatile boolean loaded;
+
+    /**
+     * @param expectedUsernames 예상 username 수
+     * @param fpp 예상 username 수일 때의 오탐률 (0 ~ 1)
+     */
+    public UsernameBloomFilter(long expectedUsernames, double fpp) {
+        if (expectedUsernames <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedUsernames must be positive and fpp must be between 0 and 1");
+        }
+        long optimalBits = (long) Math.ceil(-expectedUsernames * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedUsernames * Math.log(2)));
+    }
+
+    private UsernameBloomFilter() {
+        this.bits = null;
+        this.bitSize = 0;
+        this.hashFunctions = 0;
+    }
+
+    /**
+     * @return false 이면 등록되지 않은 username ; load 완료 전이거나 비활성이면 항상 true
+     */
+    public boolean mightContain(String username) {
+        if (bits == null || !loaded) {
+            return true;
+        }
+        if (username == null) {
+            return false;
+        }
+        long hash = hash(username);
+        long hash1 = hash;
+        long hash2 = hash >>> 32;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * username 추가 ; 가입 처리(insert) 전에 추가해야 DB 에는 있지만 filter 에는 없는 구간이 생기지 않는다.
+     */
+    public void put(String username) {
+        if (bits == null || username == null) {
+            return;
+        }
+        long hash = hash(username);
+        long hash1 = hash;
+        long hash2 = hash >>> 32;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 전체 username 을 추가한 뒤 호출 ; 이후부터 mightContain 이 false 를 반환할 수 있다.
+     */
+    public void markLoaded() {
+        loaded = true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean isEnabled() {
+        return bits != null;
+    }
+
+    /**
+     * UTF-8 byte 의 64bit FNV-1a + murmur3 fmix64
+     */
+    private static long hash(String username) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : username.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
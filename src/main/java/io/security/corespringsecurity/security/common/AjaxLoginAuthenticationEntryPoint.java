@@ -0,0 +1,21 @@
+package io.security.corespringsecurity.security.common;
+
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * /api/** 에 인증 없이 접근한 경우 로그인 페이지로 redirect 하지 않고 401 로 응답한다.
+ */
+public class AjaxLoginAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private static final byte[] UNAUTHORIZED = AjaxResponses.error("unauthorized");
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException {
+        AjaxResponses.write(response, HttpServletResponse.SC_UNAUTHORIZED, UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,31 @@
+package io.security.corespringsecurity.security.common;
+
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON API 응답 body
+ *      : 에러 body 는 고정값이므로 클래스 로딩시 한번만 만들고, 응답마다 byte[] 를 그대로 쓴다.
+ */
+public final class AjaxResponses {
+
+    private AjaxResponses() {
+    }
+
+    /**
+     * @return {"error":"<code>"}
+     */
+    public static byte[] error(String code) {
+        return ("{\"error\":\"" + code + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void write(HttpServletResponse response, int status, byte[] body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
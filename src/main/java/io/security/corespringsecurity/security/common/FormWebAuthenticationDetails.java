@@ -19,6 +19,14 @@ public class FormWebAuthenticationDetails extends WebAuthenticationDetails {
         secretKey = request.getParameter("secret_key");
     }
 
+    /**
+     * JSON 로그인 ; secret_key 를 요청 파라미터가 아닌 요청 body 에서 읽은 경우
+     */
+    public FormWebAuthenticationDetails(HttpServletRequest request, String secretKey) {
+        super(request);
+        this.secretKey = secretKey;
+    }
+
     public String getSecretKey() {
         return secretKey;
     }
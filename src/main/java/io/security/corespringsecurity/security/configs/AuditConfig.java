@@ -0,0 +1,34 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.security.corespringsecurity.security.audit.JdbcLoginAuditWriter;
+import io.security.corespringsecurity.security.audit.LoginAuditor;
+import io.security.corespringsecurity.security.audit.RingBufferLoginAuditor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class AuditConfig {
+
+    /**
+     * 로그인 성공/실패 기록
+     *      : 요청 스레드는 buffer 에 넣기만 하고, 별도 스레드가 batch 로 DB 에 저장한다.
+     *
+     * @param bufferSize 저장 대기 중인 기록 최대 수(초과시 버림)
+     * @param batchSize 한번에 insert 하는 최대 기록 수
+     * @param flushInterval 저장할 기록이 없을 때 대기 시간
+     * @return
+     */
+    @Bean
+    public LoginAuditor loginAuditor(JdbcTemplate jdbcTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${security.audit.buffer-size:8192}") int bufferSize,
+                                     @Value("${security.audit.batch-size:500}") int batchSize,
+                                     @Value("${security.audit.flush-interval:200ms}") Duration flushInterval) {
+        return new RingBufferLoginAuditor(new JdbcLoginAuditWriter(jdbcTemplate), bufferSize, batchSize, flushInterval, meterRegistry);
+    }
+}
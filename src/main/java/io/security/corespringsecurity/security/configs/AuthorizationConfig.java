@@ -0,0 +1,25 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.security.metadatasource.UrlFilterInvocationSecurityMetadataSource;
+import io.security.corespringsecurity.service.SecurityResourceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+public class AuthorizationConfig {
+
+    private final SecurityResourceService securityResourceService;
+
+    /**
+     * DB 에 등록된 url 자원/권한으로 만든 인가 정보
+     *      : 서버 시작시 한번 조회하고, 이후에는 /config/reload 요청시에만 다시 조회한다.
+     *
+     * @return
+     */
+    @Bean
+    public UrlFilterInvocationSecurityMetadataSource urlFilterInvocationSecurityMetadataSource() {
+        return new UrlFilterInvocationSecurityMetadataSource(securityResourceService);
+    }
+}
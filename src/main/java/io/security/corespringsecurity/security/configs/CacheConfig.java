@@ -0,0 +1,53 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.security.corespringsecurity.security.cache.CaffeineUserCache;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserCache;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String USER_CACHE_NAME = "userCache";
+
+    /**
+     * 로그인시 매번 DB 를 조회하지 않도록 {@link UserCache} 를 등록한다.
+     *      : hit, miss, eviction 수는 cache.gets{cache=userCache, result=hit|miss}, cache.evictions{cache=userCache} 로 /actuator/prometheus 에 노출
+     *
+     * @param meterRegistry 캐시 통계 기록
+     * @param maximumSize 캐시에 보관할 최대 사용자 수
+     * @param expireAfterWrite 캐시 저장 후 만료시간
+     * @return
+     */
+    @Bean
+    public UserCache userCache(MeterRegistry meterRegistry,
+                               @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${security.user-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        CaffeineUserCache userCache = new CaffeineUserCache(maximumSize, expireAfterWrite);
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache.getCache(), USER_CACHE_NAME);
+        return userCache;
+    }
+
+    /**
+     * 없는 username 으로 로그인할 때 DB 를 조회하지 않도록 등록된 username 의 Bloom filter 를 등록한다.
+     *      : 서버 로컬 메모리라서 다른 서버에서 가입하거나 DB 에 직접 저장한 username 을 거부하므로 기본값은 사용하지 않음(false)
+     *      : 서버가 1대이고 회원 등록이 모두 이 애플리케이션을 거치는 경우에만 켠다.
+     *
+     * @param enabled false(기본값) 이면 항상 DB 를 조회
+     * @param expectedUsernames 예상 username 수 (bit 배열 크기 ; 100만명, 1% 기준 약 1.2MB)
+     * @param fpp 오탐률 (없는 username 인데 DB 를 조회하는 비율)
+     * @return
+     */
+    @Bean
+    public UsernameBloomFilter usernameBloomFilter(@Value("${security.username-filter.enabled:false}") boolean enabled,
+                                                   @Value("${security.username-filter.expected-usernames:1000000}") long expectedUsernames,
+                                                   @Value("${security.username-filter.fpp:0.01}") double fpp) {
+        return enabled ? new UsernameBloomFilter(expectedUsernames, fpp) : UsernameBloomFilter.DISABLED;
+    }
+}
@@ -0,0 +1,28 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.domain.AccountDto;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MapperConfig {
+
+    /**
+     * 공유 {@link ModelMapper}
+     *      : 요청마다 new ModelMapper() 를 하면 매번 reflection 으로 TypeMap 을 다시 만든다.
+     *      : 사용하는 TypeMap 을 시작 시점에 미리 만들어 두고, 이후에는 조회만 한다. (ModelMapper 는 thread-safe)
+     *
+     * 회원가입 ; {@link AccountDto} -> {@link Account}
+     *
+     * @return
+     */
+    @Bean
+    public ModelMapper modelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+
+        modelMapper.createTypeMap(AccountDto.class, Account.class);
+        return modelMapper;
+    }
+}
@@ -0,0 +1,64 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.security.corespringsecurity.security.metrics.FilterChainTimingPostProcessor;
+import io.security.corespringsecurity.security.metrics.FilterTimingEndpoint;
+import io.security.corespringsecurity.security.metrics.FilterTimings;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * filter 수행시간 url 태그 ; 먼저 일치하는 pattern 을 사용하므로 구체적인 pattern 을 앞에 둔다.
+     */
+    private static final List<String> FILTER_TIMING_URLS = Arrays.asList(
+            USERS_BULK_URL, USERS_URL, API_LOGIN_URL, API_URL, LOGIN_PROC_URL, LOGIN_URL, LOGOUT_URL, DENIED_URL,
+            MYPAGE_URL, MESSAGES_URL, CONFIG_URL + "/**", HEALTH_URL, PROMETHEUS_URL, ROOT_URL);
+
+    /**
+     * 로그인 단계별 수행시간, 결과 기록
+     *      : /actuator/prometheus 로 노출
+     *
+     * @param meterRegistry
+     * @return
+     */
+    @Bean
+    public LoginMetrics loginMetrics(MeterRegistry meterRegistry) {
+        return new LoginMetrics(meterRegistry);
+    }
+
+    /**
+     * security filter 별 수행시간, 할당량 기록 (security.filter-timing.enabled=true 인 경우만)
+     *      : 모든 요청, 모든 filter 마다 기록하므로 평소에는 끄고 병목을 찾을 때만 켠다.
+     *
+     * @param meterRegistry
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = "security.filter-timing.enabled", havingValue = "true")
+    public FilterTimings filterTimings(MeterRegistry meterRegistry) {
+        return new FilterTimings(meterRegistry, FILTER_TIMING_URLS);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "security.filter-timing.enabled", havingValue = "true")
+    public static FilterChainTimingPostProcessor filterChainTimingPostProcessor(ObjectProvider<FilterTimings> filterTimings) {
+        return new FilterChainTimingPostProcessor(filterTimings);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "security.filter-timing.enabled", havingValue = "true")
+    public FilterTimingEndpoint filterTimingEndpoint(FilterTimings filterTimings) {
+        return new FilterTimingEndpoint(filterTimings);
+    }
+}
@@ -0,0 +1,28 @@
+package io.security.corespringsecurity.security.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 운영(prod) profile 설정 ; --spring.profiles.active=prod
+ *      : 설정값은 application-prod.properties (SQL 출력 끄기, schema validate, connection pool, statement cache, JDBC batch, template 캐시)
+ *      : 개발용 설정이 남아 있으면 서버가 시작되지 않는다.({@link ProductionSettingsValidator})
+ */
+@Configuration
+@Profile(ProductionConfig.PROFILE)
+public class ProductionConfig {
+
+    public static final String PROFILE = "prod";
+
+    /**
+     * BeanFactoryPostProcessor 는 다른 bean 보다 먼저 생성해야 하므로 static 으로 등록한다.
+     *      : EntityManagerFactory 생성(ddl-auto=create 이면 table 삭제) 전에 검사한다.
+     *
+     * @return
+     */
+    @Bean
+    public static ProductionSettingsValidator productionSettingsValidator() {
+        return new ProductionSettingsValidator();
+    }
+}
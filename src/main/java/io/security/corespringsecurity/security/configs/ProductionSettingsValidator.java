@@ -0,0 +1,101 @@
+package io.security.corespringsecurity.security.configs;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 운영(prod) profile 에 개발용 설정이 남아 있으면 서버 시작을 중단한다.(fail-fast)
+ *      : bean 생성 전에 Environment 만 검사하므로 DB 연결, schema 생성 전에 실패한다.
+ *      : 위반한 설정을 모두 모아서 한번에 알려준다.
+ *
+ * 검사 항목
+ *      : schema 자동 생성/변경 (ddl-auto=create, create-drop, update / spring.jpa.generate-ddl)
+ *      : SQL 출력 (show-sql, hibernate.show_sql, format_sql, use_sql_comments, org.hibernate.SQL 로그)
+ *      : template 캐시 끄기 (spring.thymeleaf.cache=false)
+ *      : devtools 재시작, livereload (devtools 가 classpath 에 있는 경우)
+ *      : session table 자동 생성 (spring.session.jdbc.initialize-schema=always)
+ *      : 서명 토큰을 사용하면서 secret 이 없는 경우 (서버마다 임의의 key)
+ */
+public class ProductionSettingsValidator implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    private static final List<String> SCHEMA_CHANGING_DDL_AUTO = Arrays.asList("create", "create-drop", "update");
+    private static final List<String> SQL_LOGGING_LEVELS = Arrays.asList("debug", "trace", "all");
+    private static final String DEVTOOLS_RESTARTER = "org.springframework.boot.devtools.restart.Restarter";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        validate(environment, ClassUtils.isPresent(DEVTOOLS_RESTARTER, beanFactory.getBeanClassLoader()));
+    }
+
+    /**
+     * @param devtoolsPresent spring-boot-devtools 가 classpath 에 있는지 (developmentOnly ; bootRun)
+     * @throws IllegalStateException 개발용 설정이 있는 경우
+     */
+    public static void validate(Environment environment, boolean devtoolsPresent) {
+        List<String> violations = violations(environment, devtoolsPresent);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Development settings are not allowed in the '" + ProductionConfig.PROFILE
+                    + "' profile: " + String.join(", ", violations));
+        }
+    }
+
+    static List<String> violations(Environment environment, boolean devtoolsPresent) {
+        List<String> violations = new ArrayList<>();
+
+        String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto");
+        if (ddlAuto != null && SCHEMA_CHANGING_DDL_AUTO.contains(ddlAuto.trim().toLowerCase())) {
+            violations.add("spring.jpa.hibernate.ddl-auto=" + ddlAuto + " (use validate or none)");
+        }
+        requireFalse(environment, "spring.jpa.generate-ddl", false, violations);
+
+        requireFalse(environment, "spring.jpa.show-sql", false, violations);
+        requireFalse(environment, "spring.jpa.properties.hibernate.show_sql", false, violations);
+        requireFalse(environment, "spring.jpa.properties.hibernate.format_sql", false, violations);
+        requireFalse(environment, "spring.jpa.properties.hibernate.use_sql_comments", false, violations);
+        String sqlLogging = environment.getProperty("logging.level.org.hibernate.SQL");
+        if (sqlLogging != null && SQL_LOGGING_LEVELS.contains(sqlLogging.trim().toLowerCase())) {
+            violations.add("logging.level.org.hibernate.SQL=" + sqlLogging);
+        }
+
+        if (!environment.getProperty("spring.thymeleaf.cache", Boolean.class, true)) {
+            violations.add("spring.thymeleaf.cache=false");
+        }
+
+        if (devtoolsPresent) {
+            requireFalse(environment, "spring.devtools.restart.enabled", true, violations);
+            requireFalse(environment, "spring.devtools.livereload.enabled", true, violations);
+        }
+
+        if ("jdbc".equals(environment.getProperty("spring.session.store-type"))
+                && "always".equals(environment.getProperty("spring.session.jdbc.initialize-schema"))) {
+            violations.add("spring.session.jdbc.initialize-schema=always");
+        }
+
+        if (environment.getProperty("security.token.enabled", Boolean.class, false)
+                && !StringUtils.hasText(environment.getProperty("security.token.secret"))) {
+            violations.add("security.token.secret is empty while security.token.enabled=true");
+        }
+        return violations;
+    }
+
+    private static void requireFalse(Environment environment, String key, boolean defaultValue, List<String> violations) {
+        if (environment.getProperty(key, Boolean.class, defaultValue)) {
+            violations.add(key + "=true");
+        }
+    }
+}
@@ -1,30 +1,82 @@
 package io.security.corespringsecurity.security.configs;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.security.corespringsecurity.security.common.AjaxLoginAuthenticationEntryPoint;
 import io.security.corespringsecurity.security.common.FormWebAuthenticationDetailsSource;
+import io.security.corespringsecurity.security.crypto.BCryptStrengthCalibrator;
+import io.security.corespringsecurity.security.crypto.BoundedPasswordEncoder;
+import io.security.corespringsecurity.security.crypto.PasswordEncoderFactory;
+import io.security.corespringsecurity.security.crypto.PasswordUpgrader;
+import io.security.corespringsecurity.security.filter.AjaxLoginProcessingFilter;
+import io.security.corespringsecurity.security.handler.AjaxAccessDeniedHandler;
+import io.security.corespringsecurity.security.handler.AjaxAuthenticationFailureHandler;
+import io.security.corespringsecurity.security.handler.AjaxAuthenticationSuccessHandler;
 import io.security.corespringsecurity.security.handler.CustomAccessDeniedHandler;
+import io.security.corespringsecurity.security.metadatasource.UrlFilterInvocationSecurityMetadataSource;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import io.security.corespringsecurity.security.provider.AjaxAuthenticationProvider;
 import io.security.corespringsecurity.security.provider.CustomAuthenticationProvider;
 import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.security.throttle.LoginThrottle;
+import io.security.corespringsecurity.security.throttle.StripedLoginAttemptStore;
+import io.security.corespringsecurity.security.token.SignedTokenAuthenticationFilter;
+import io.security.corespringsecurity.security.token.SignedTokenAuthenticationSuccessHandler;
+import io.security.corespringsecurity.security.token.SignedTokenService;
+import io.security.corespringsecurity.security.voter.UrlAccessVoter;
+import io.security.corespringsecurity.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.StaticResourceLocation;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.boot.autoconfigure.security.servlet.StaticResourceRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.access.AccessDecisionManager;
+import org.springframework.security.access.vote.AffirmativeBased;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.config.annotation.ObjectPostProcessor;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.FilterInvocation;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.access.RequestMatcherDelegatingAccessDeniedHandler;
 import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.security.web.authentication.DelegatingAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.session.SessionAuthenticationStrategy;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfAuthenticationStrategy;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.LazyCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+import org.springframework.security.web.savedrequest.RequestCache;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestHeaderRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 
-import static io.security.corespringsecurity.constants.RoleConstant.*;
 import static io.security.corespringsecurity.constants.UrlConstant.*;
 
 @Configuration
@@ -36,6 +88,37 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final FormWebAuthenticationDetailsSource formWebAuthenticationDetailsSource;//WebAuthenticationDetails (추가 세부 인증; ex. secretKey) 생성
     private final AuthenticationSuccessHandler customAuthenticationSuccessHandler;//인증 성공시 실행되는 Handler
     private final AuthenticationFailureHandler customAuthenticationFailureHandler;//인증 실패시 실행되는 Handler
+    private final MeterRegistry meterRegistry;//password encoder 수행시간 기록
+    private final UserService userService;//오래된 password 해시 재저장
+    private final ObjectProvider<SignedTokenService> signedTokenService;//stateless 모드 인증 토큰 발급/검증 (security.token.enabled=true 인 경우에만 bean 생성)
+    private final UrlFilterInvocationSecurityMetadataSource urlFilterInvocationSecurityMetadataSource;//url 별 권한 정보
+    private final AjaxAuthenticationSuccessHandler ajaxAuthenticationSuccessHandler;//JSON 로그인 성공시 실행되는 Handler
+    private final AjaxAuthenticationFailureHandler ajaxAuthenticationFailureHandler;//JSON 로그인 실패시 실행되는 Handler
+    private final LoginMetrics loginMetrics;//로그인 단계별 수행시간 기록
+
+    @Value("${security.login-throttle.username-limit:10}")
+    private int throttleUsernameLimit;//username 별 window 당 최대 로그인 시도 수(0 이하; 제한 없음)
+
+    @Value("${security.login-throttle.ip-limit:100}")
+    private int throttleIpLimit;//ip 별 window 당 최대 로그인 시도 수(0 이하; 제한 없음)
+
+    @Value("${security.login-throttle.window:1m}")
+    private Duration throttleWindow;//로그인 시도 횟수 window
+
+    @Value("${security.token.enabled:false}")
+    private boolean tokenEnabled;//stateless 모드 사용 여부
+
+    @Value("${security.password.bcrypt.target-duration:100ms}")
+    private Duration bcryptTargetDuration;//bcrypt 1회 해시 목표 시간
+
+    @Value("${security.password.verification.threads:0}")
+    private int verificationThreads;//비밀번호 검증 스레드 수(0 이하; CPU 코어 수)
+
+    @Value("${security.password.verification.queue-capacity:64}")
+    private int verificationQueueCapacity;//비밀번호 검증 대기열 크기
+
+    @Value("${security.password.verification.timeout:5s}")
+    private Duration verificationTimeout;//비밀번호 검증 최대 대기 시간
 
     /**
      * 현재 이 웹 서버가 제공하는 http 요청을 접근할 수 있는 user 목록
@@ -47,6 +130,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
         //UsernamePasswordAuthenticationFilter#attemptAuthentication -> ProviderManager#authenticate -> CustomAuthenticationProvider#authenticate
         auth.authenticationProvider(authenticationProvider());
+        //AjaxLoginProcessingFilter#attemptAuthentication -> ProviderManager#authenticate -> AjaxAuthenticationProvider#authenticate
+        auth.authenticationProvider(ajaxAuthenticationProvider());
     }
 
     /**
@@ -76,16 +161,20 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         //현재 이 시스템에 요청으로 접근하려면 모든 요청에 대해 인증을 요구함
+        //url 별 권한은 DB 자원(Resources) 에서 조회 => SecurityResourceService
         http
                 .authorizeRequests()
 
-                .antMatchers(ROOT_URL, USERS_URL, "user/login/**", "/login", "/denied").permitAll()
-                .antMatchers(MYPAGE_URL).hasRole(USER_ROLE)
-                .antMatchers(MESSAGES_URL).hasRole(MANAGER_ROLE)
-                .antMatchers(CONFIG_URL).hasRole(ADMIN_ROLE)
-
                 .anyRequest()
                 .authenticated()
+                .withObjectPostProcessor(new ObjectPostProcessor<FilterSecurityInterceptor>() {
+                    @Override
+                    public <O extends FilterSecurityInterceptor> O postProcess(O filterSecurityInterceptor) {
+                        filterSecurityInterceptor.setSecurityMetadataSource(urlFilterInvocationSecurityMetadataSource);
+                        filterSecurityInterceptor.setAccessDecisionManager(urlAccessDecisionManager());
+                        return filterSecurityInterceptor;
+                    }
+                })
 
         .and()
                 .formLogin()//기본 인증방식; form login; UsernamePasswordAuthenticationFilter 를 기본설정한다. API 는 별도로 구현클래스를 따로 스프링 빈으로 등록해주어야 한다
@@ -93,14 +182,161 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .loginProcessingUrl(LOGIN_PROC_URL)//login form action
                 .authenticationDetailsSource(formWebAuthenticationDetailsSource)//WebAuthenticationDetails 소스를 생성
                 .defaultSuccessUrl(ROOT_URL)//성공시 redirect page
-                .successHandler(customAuthenticationSuccessHandler)//성공시 호출되는 handler
+                .successHandler(authenticationSuccessHandler())//성공시 호출되는 handler
                 .failureHandler(customAuthenticationFailureHandler)//실패시 호출되는 handler
                 .permitAll()//로그인 페이지 권한 전체 허용
 
         .and()
                 .exceptionHandling()
-                .accessDeniedHandler(accessDeniedHandler())//인가 거부(인증 유저 중 권한을 갖지 못한 유저가 접근시)시 호출되는 handler
+                .authenticationEntryPoint(authenticationEntryPoint())//인증 필요시 로그인 페이지로 redirect, API 는 redirect 대신 401
+                .accessDeniedHandler(new RequestMatcherDelegatingAccessDeniedHandler(
+                        new LinkedHashMap<>(Collections.singletonMap(apiRequestMatcher(), new AjaxAccessDeniedHandler())),//API 인가 거부시 redirect 대신 403
+                        accessDeniedHandler()))//인가 거부(인증 유저 중 권한을 갖지 못한 유저가 접근시)시 호출되는 handler
+
+        .and()
+                .requestCache()
+                .requestCache(requestCache())//로그인 후 돌아갈 요청은 page 요청만 세션에 저장
+
+        .and()
+                .csrf()
+                .csrfTokenRepository(csrfTokenRepository())//csrf token 을 세션 대신 쿠키에 저장
+                .ignoringAntMatchers(API_LOGIN_URL)//application/json 만 받으므로 csrf token 없이 허용 (AjaxLoginProcessingFilter)
+
+        .and()
+                .apply(new AjaxLoginConfigurer(ajaxLoginProcessingFilter()))//UsernamePasswordAuthenticationFilter 앞에 JSON 로그인 필터 추가
         ;
+
+        if (tokenEnabled) {
+            configureStateless(http);
+        }
+    }
+
+    /**
+     * stateless 모드 (security.token.enabled=true)
+     *      : 세션을 생성/사용하지 않고, 인증 성공시 발급한 서명 토큰 쿠키로 매 요청마다 인증한다.
+     *      : 토큰은 서명만 검증하므로 DB 조회가 없고, 같은 secret 을 가진 어느 서버에서든 검증된다.(sticky session 불필요)
+     *      : 인증 실패 handler 도 세션을 생성하지 않는다.
+     *      : 로그아웃시 토큰 쿠키를 삭제한다.
+     *
+     * @param http
+     * @throws Exception
+     */
+    private void configureStateless(HttpSecurity http) throws Exception {
+        if (customAuthenticationFailureHandler instanceof SimpleUrlAuthenticationFailureHandler) {
+            //인증 예외를 세션에 저장하지 않음 (예외 메시지는 failureUrl 의 queryParam 으로 전달)
+            ((SimpleUrlAuthenticationFailureHandler) customAuthenticationFailureHandler).setAllowSessionCreation(false);
+        }
+        http
+                .sessionManagement()
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)//SecurityContext 를 세션에 저장하지 않음
+
+        .and()
+                .requestCache()
+                .requestCache(new NullRequestCache())//로그인 후 돌아갈 요청도 세션에 저장하지 않음
+
+        .and()
+                .logout()
+                .deleteCookies(SignedTokenService.TOKEN_COOKIE_NAME)
+
+        .and()
+                .addFilterBefore(new SignedTokenAuthenticationFilter(signedTokenService.getObject()), UsernamePasswordAuthenticationFilter.class)
+        ;
+    }
+
+    /**
+     * 익명 요청이 세션을 생성하지 않도록 csrf token 은 쿠키에 저장한다.
+     *      : 기본값(HttpSessionCsrfTokenRepository)은 로그인/회원가입 화면처럼 form 을 그리기만 해도 세션을 생성한다.
+     *      : {@link LazyCsrfTokenRepository} ; 화면에서 token 을 사용하는 경우에만 쿠키를 내려준다.
+     *      : SecurityContext 는 기존대로 {@link HttpSessionSecurityContextRepository} 가 인증된 경우에만 세션에 저장한다. (익명, 빈 context 는 저장하지 않음)
+     *
+     * @return
+     */
+    private static CsrfTokenRepository csrfTokenRepository() {
+        return new LazyCsrfTokenRepository(new CookieCsrfTokenRepository());
+    }
+
+    /**
+     * 인증이 필요한 page 에 익명으로 접근한 경우에만 요청을 세션에 저장 (로그인 성공 후 돌아갈 요청)
+     *      : GET 이 아니거나 API, XMLHttpRequest, favicon 요청은 로그인 후 돌아갈 page 가 아니므로 저장하지 않아 세션을 생성하지 않는다.
+     *
+     * @return
+     */
+    private static RequestCache requestCache() {
+        HttpSessionRequestCache requestCache = new HttpSessionRequestCache();
+        requestCache.setRequestMatcher(new AndRequestMatcher(
+                new AntPathRequestMatcher("/**", HttpMethod.GET.name()),
+                new NegatedRequestMatcher(apiRequestMatcher()),
+                new NegatedRequestMatcher(new RequestHeaderRequestMatcher("X-Requested-With", "XMLHttpRequest")),
+                new NegatedRequestMatcher(new AntPathRequestMatcher("/**/favicon.*"))));
+        return requestCache;
+    }
+
+    private AuthenticationSuccessHandler authenticationSuccessHandler() {
+        return withTokenCookie(customAuthenticationSuccessHandler);
+    }
+
+    private AuthenticationSuccessHandler withTokenCookie(AuthenticationSuccessHandler successHandler) {
+        if (tokenEnabled) {
+            return new SignedTokenAuthenticationSuccessHandler(signedTokenService.getObject(), successHandler);
+        }
+        return successHandler;
+    }
+
+    /**
+     * JSON 로그인 (POST /api/login)
+     *      : form 로그인(/login_proc)과 같은 AuthenticationManager 를 사용하고, {@link AjaxAuthenticationProvider} 가 인증한다.
+     *      : 성공/실패 모두 redirect 없이 JSON 으로 응답한다.
+     *      : 인증 성공시 session 처리는 {@link AjaxLoginConfigurer} 가 form 로그인과 같은 전략으로 설정한다.
+     *
+     * @return
+     * @throws Exception
+     */
+    private AjaxLoginProcessingFilter ajaxLoginProcessingFilter() throws Exception {
+        AjaxLoginProcessingFilter filter = new AjaxLoginProcessingFilter(API_LOGIN_URL);
+        filter.setAuthenticationManager(authenticationManager());
+        filter.setAuthenticationSuccessHandler(withTokenCookie(ajaxAuthenticationSuccessHandler));
+        filter.setAuthenticationFailureHandler(ajaxAuthenticationFailureHandler);
+        return filter;
+    }
+
+    /**
+     * JSON 로그인 필터에 form 로그인과 같은 {@link SessionAuthenticationStrategy} 를 설정하고 필터를 추가한다.
+     *      : sessionManagement 가 만드는 공유 전략(session id 변경 + {@link CsrfAuthenticationStrategy})은 init 이후에 만들어지므로 configure 단계에서 가져온다.
+     *      : 인증 성공시 session id 를 변경하고(session fixation), csrf token 도 새로 발급한다.
+     */
+    private static class AjaxLoginConfigurer extends AbstractHttpConfigurer<AjaxLoginConfigurer, HttpSecurity> {
+        private final AjaxLoginProcessingFilter filter;
+
+        AjaxLoginConfigurer(AjaxLoginProcessingFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public void configure(HttpSecurity http) {
+            filter.setSessionAuthenticationStrategy(http.getSharedObject(SessionAuthenticationStrategy.class));
+            http.addFilterBefore(filter, UsernamePasswordAuthenticationFilter.class);
+        }
+    }
+
+    private static AuthenticationEntryPoint authenticationEntryPoint() {
+        DelegatingAuthenticationEntryPoint entryPoint = new DelegatingAuthenticationEntryPoint(
+                new LinkedHashMap<>(Collections.singletonMap(apiRequestMatcher(), new AjaxLoginAuthenticationEntryPoint())));
+        entryPoint.setDefaultEntryPoint(new LoginUrlAuthenticationEntryPoint(LOGIN_URL));
+        return entryPoint;
+    }
+
+    private static RequestMatcher apiRequestMatcher() {
+        return new AntPathRequestMatcher(API_URL);
+    }
+
+    /**
+     * {@link UrlAccessVoter} 하나로 판단, 거부시 AccessDeniedException("Access is denied")
+     *
+     * @return
+     */
+    @Bean
+    public AccessDecisionManager urlAccessDecisionManager() {
+        return new AffirmativeBased(Collections.singletonList(new UrlAccessVoter()));
     }
 
     @Bean
@@ -124,15 +360,60 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
      *      : encode(password); 패스워드 암호화
      *      : matches(rawPassword, encodedPassword); 패스워드 비교
      *
+     * {@link PasswordEncoderFactory#createDelegatingPasswordEncoder(int, MeterRegistry)}
+     *      : {@link PasswordEncoderFactories} 와 같은 포맷을 지원
+     *      : bcrypt strength 는 서버 시작시 {@link BCryptStrengthCalibrator} 로 측정하여 목표 시간(bcryptTargetDuration)에 맞춘다.
+     *      : 알고리즘 별 encode/matches 수행시간을 기록
+     *
+     * {@link BoundedPasswordEncoder}
+     *      : matches 는 크기가 제한된 별도의 스레드 풀에서 수행하고, 대기열이 가득 차면 바로 거부한다.
+     *
      * @return
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        int bcryptStrength = BCryptStrengthCalibrator.calibrate(bcryptTargetDuration);
+        int threads = verificationThreads > 0 ? verificationThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                PasswordEncoderFactory.createDelegatingPasswordEncoder(bcryptStrength, meterRegistry),
+                threads,
+                verificationQueueCapacity,
+                verificationTimeout,
+                meterRegistry);
+    }
+
+    /**
+     * 로그인 성공시 strength 가 낮은 bcrypt 해시 등을 백그라운드에서 다시 해시한다.
+     *
+     * @return
+     */
+    @Bean
+    public PasswordUpgrader passwordUpgrader() {
+        return new PasswordUpgrader(passwordEncoder(), userService);
+    }
+
+    /**
+     * username, ip 별 로그인 시도 횟수 제한
+     *      : 카운터는 서버 메모리에 보관한다. 서버간 공유가 필요하면 {@link io.security.corespringsecurity.security.throttle.LoginAttemptStore} 구현체를 교체한다.
+     *
+     * @return
+     */
+    @Bean
+    public LoginThrottle loginThrottle() {
+        return new LoginThrottle(new StripedLoginAttemptStore(64, 100_000),
+                throttleUsernameLimit,
+                throttleIpLimit,
+                throttleWindow,
+                Clock.systemUTC());
     }
 
     @Bean
     public AuthenticationProvider authenticationProvider() {
-        return new CustomAuthenticationProvider(customUsersDetailsService, passwordEncoder());
+        return new CustomAuthenticationProvider(customUsersDetailsService, passwordEncoder(), passwordUpgrader(), loginThrottle(), loginMetrics);
+    }
+
+    @Bean
+    public AuthenticationProvider ajaxAuthenticationProvider() {
+        return new AjaxAuthenticationProvider(customUsersDetailsService, passwordEncoder(), passwordUpgrader(), loginThrottle(), loginMetrics);
     }
 }
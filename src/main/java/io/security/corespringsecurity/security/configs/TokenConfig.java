@@ -0,0 +1,41 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.security.token.SignedTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class TokenConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenConfig.class);
+
+    /**
+     * stateless 모드(security.token.enabled=true)에서 사용하는 서명 토큰 서비스
+     *      : stateless 모드가 아니면 생성하지 않는다.
+     *
+     * @param secret 모든 서버가 같은 값을 사용해야 한다. 값이 없으면 서버 시작시 임의로 생성한다.(서버 재시작, 다른 서버에서는 토큰 검증 실패)
+     * @param expiry 토큰 만료시간
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = "security.token.enabled", havingValue = "true")
+    public SignedTokenService signedTokenService(@Value("${security.token.secret:}") String secret,
+                                                 @Value("${security.token.expiry:30m}") Duration expiry) {
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
+        if (key.length == 0) {
+            log.warn("security.token.secret is empty; using a random per-instance key");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        }
+        return new SignedTokenService(key, expiry, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,55 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.view.RenderedPageCache;
+import io.security.corespringsecurity.view.RenderedPageCachingView;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * template 캐시를 사용하는 경우(spring.thymeleaf.cache=true, prod profile)만 렌더링 결과도 보관한다.
+ *      : 개발 중(cache=false)에는 template 을 수정하면 바로 반영되어야 하므로 사용하지 않는다.
+ *
+ * 로그인 실패시 redirect 되는 로그인 페이지와 인가 거부 페이지는 layout(header, top, footer) 을 포함해서 매번 같은 결과이므로,
+ * {@link RenderedPageCache} 에 보관한 page 에 메시지, csrf token 만 채워서 응답한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.thymeleaf.cache", havingValue = "true")
+public class ViewConfig {
+
+    /**
+     * 로그인 페이지 ; 실패 메시지(exception), ?error=true 여부
+     * 인가 거부 페이지 ; username, 거부 메시지(exception)
+     *
+     * @return
+     */
+    @Bean
+    public RenderedPageCache renderedPageCache() {
+        return new RenderedPageCache()
+                .page("user/login/login", Collections.singletonList("exception"), Collections.singletonList("error"))
+                .page("user/login/denied", Arrays.asList("username", "exception"), Collections.emptyList());
+    }
+
+    /**
+     * Boot 가 등록하는 {@link ThymeleafViewResolver} 의 설정(content type, order 등)은 그대로 두고 view 클래스만 바꾼다.
+     *
+     * @return
+     */
+    @Bean
+    public static BeanPostProcessor renderedPageCachingViewResolverPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof ThymeleafViewResolver) {
+                    ((ThymeleafViewResolver) bean).setViewClass(RenderedPageCachingView.class);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package io.security.corespringsecurity.security.configs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 요청을 virtual thread 에서 처리하는 모드 (spring.threads.virtual.enabled=true 인 경우만, Java 21 이상)
+ *      : Tomcat 의 고정 크기 worker pool(server.tomcat.threads.max) 대신 요청마다 virtual thread 를 만든다.
+ *      : 로그인 경로의 blocking JDBC(findByUsername) 대기 중에는 carrier thread 를 반납하므로, 대기 요청 수가 worker 수에 묶이지 않는다.
+ *      : Java 21 미만에서 켜면 서버가 시작되지 않는다.(fail-fast)
+ *
+ * 동시성 제한은 thread 수가 아닌 자원별 pool 이 담당한다.
+ *      : DB ; spring.datasource.hikari.maximum-pool-size (connection 을 기다리는 시간은 connection-timeout 으로 제한)
+ *      : bcrypt ; security.password.verification.threads (BoundedPasswordEncoder 의 검증 pool)
+ *
+ * 소스/실행 기준은 Java 8 이므로 JDK 21 API 는 reflection 으로 호출한다.
+ * Spring Boot 3.2 이상으로 올리면 같은 설정(spring.threads.virtual.enabled)을 Boot 가 처리하므로 이 클래스는 제거한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    private static final String THREAD_NAME_PREFIX = "http-vt-";
+
+    private ExecutorService executor;
+
+    /**
+     * Tomcat 요청 처리 executor 를 virtual thread executor 로 교체
+     *      : executor 를 bean 으로 등록하면 @Async 등의 기본 Executor 를 대체하므로 이 설정 클래스에서 직접 관리하고, 종료시 shutdown 한다.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadTomcatCustomizer(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor(THREAD_NAME_PREFIX);
+        this.executor = virtualThreadExecutor;
+        log.info("serving requests on virtual threads; database concurrency is bounded by hikari maximum-pool-size={}", maximumPoolSize);
+        return factory -> factory.addProtocolHandlerCustomizers(protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor));
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return 실행중인 JVM 이 virtual thread 를 지원하는지 (Java 21 이상)
+     */
+    static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Thread.ofVirtual().name(prefix, 0).factory() 로 만든 thread-per-task executor
+     *
+     * @throws IllegalStateException virtual thread 를 지원하지 않는 JVM
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true requires Java 21 or later; running on Java "
+                    + System.getProperty("java.version"));
+        }
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+}
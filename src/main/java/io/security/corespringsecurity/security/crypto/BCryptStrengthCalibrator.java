@@ -0,0 +1,51 @@
+package io.security.corespringsecurity.security.crypto;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * 현재 서버 하드웨어에서 bcrypt 해시 시간을 측정해서 strength(cost) 를 결정
+ *
+ * bcrypt 는 strength 가 1 증가할 때마다 해시 시간이 2배가 된다.
+ *      => 기준 strength 의 해시 시간을 측정한 뒤, 목표 시간을 넘지 않는 가장 큰 strength 를 선택한다.
+ *      => 기본값({@link #MIN_STRENGTH}) 보다 낮은 strength 는 선택하지 않는다.
+ */
+public class BCryptStrengthCalibrator {
+
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration target) {
+        long baseNanos = measure(MIN_STRENGTH);
+        long targetNanos = target.toNanos();
+
+        int strength = MIN_STRENGTH;
+        long estimatedNanos = baseNanos;
+        while (strength < MAX_STRENGTH && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        return strength;
+    }
+
+    /**
+     * JIT warm-up 영향을 줄이기 위해 여러번 측정한 값 중 최소값을 사용
+     */
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            min = Math.min(min, System.nanoTime() - start);
+        }
+        return min;
+    }
+}
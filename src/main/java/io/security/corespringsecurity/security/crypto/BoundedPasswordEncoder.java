@@ -0,0 +1,120 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link PasswordEncoder#matches(CharSequence, String)} 를 서블릿 컨테이너 worker 스레드가 아닌 별도의 스레드 풀에서 수행하는 Encoder
+ *
+ * bcrypt 검증은 CPU 를 많이 사용하기 때문에, 로그인 요청이 몰리면 일반 페이지 요청(/, /mypage, /messages ...)을 처리할 CPU 가 부족해진다.
+ *      => 검증 스레드 수를 제한(기본: CPU 코어 수)
+ *      => 대기열(queueCapacity)이 가득 차면 기다리지 않고 {@link PasswordVerificationRejectedException} 발생
+ *      => 대기열에서 timeout 이상 기다린 경우(검증이 시작되지 않은 경우)에도 {@link PasswordVerificationRejectedException} 발생
+ *      => 이미 시작된 검증은 timeout 이 지나도 끝까지 수행한다. (timeout 은 대기열에서 기다린 시간만 제한)
+ *
+ * metric
+ *      : security.password.verification.queue ; 대기중인 검증 요청 수
+ *      : security.password.verification.wait ; 대기열에서 기다린 시간
+ *      : security.password.verification.rejected ; 거부된 검증 요청 수
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new VerificationThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimer = Timer.builder("security.password.verification.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("security.password.verification.rejected")
+                .register(meterRegistry);
+        Gauge.builder("security.password.verification.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        AtomicBoolean claimed = new AtomicBoolean();//검증 스레드가 시작했거나, timeout 으로 거부된 경우 true
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return false;//대기열에서 timeout 이 지나 이미 거부된 요청
+                }
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return delegate.matches(rawPassword, encodedPassword);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordVerificationRejectedException("password verification queue is full");
+        }
+
+        try {
+            try {
+                return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    future.cancel(false);
+                    rejectedCounter.increment();
+                    throw new PasswordVerificationRejectedException("password verification timed out in the queue");
+                }
+                return future.get();//이미 시작된 검증은 끝날 때까지 기다린다.
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("password verification interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AuthenticationServiceException("password verification failed", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static class VerificationThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-verifier-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link PasswordEncoderFactories#createDelegatingPasswordEncoder()} 와 같은 포맷({id}encodedPassword)을 지원하는 {@link DelegatingPasswordEncoder} 생성
+ *
+ * 차이점
+ *      : bcrypt strength 를 지정할 수 있음({@link BCryptStrengthCalibrator} 로 측정한 값)
+ *      : 알고리즘 별 Encoder 를 {@link TimedPasswordEncoder} 로 감싸서 수행시간을 기록
+ */
+public class PasswordEncoderFactory {
+
+    public static final String BCRYPT_ID = "bcrypt";
+
+    private PasswordEncoderFactory() {
+    }
+
+    @SuppressWarnings("deprecation")
+    public static DelegatingPasswordEncoder createDelegatingPasswordEncoder(int bcryptStrength, MeterRegistry meterRegistry) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("ldap", new org.springframework.security.crypto.password.LdapShaPasswordEncoder());
+        encoders.put("MD4", new org.springframework.security.crypto.password.Md4PasswordEncoder());
+        encoders.put("MD5", new org.springframework.security.crypto.password.MessageDigestPasswordEncoder("MD5"));
+        encoders.put("noop", org.springframework.security.crypto.password.NoOpPasswordEncoder.getInstance());
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder());
+        encoders.put("scrypt", new SCryptPasswordEncoder());
+        encoders.put("SHA-1", new org.springframework.security.crypto.password.MessageDigestPasswordEncoder("SHA-1"));
+        encoders.put("SHA-256", new org.springframework.security.crypto.password.MessageDigestPasswordEncoder("SHA-256"));
+        encoders.put("sha256", new org.springframework.security.crypto.password.StandardPasswordEncoder());
+        encoders.put("argon2", new Argon2PasswordEncoder());
+
+        Map<String, PasswordEncoder> timedEncoders = new HashMap<>();
+        encoders.forEach((id, encoder) -> timedEncoders.put(id, new TimedPasswordEncoder(id, encoder, meterRegistry)));
+        return new DelegatingPasswordEncoder(BCRYPT_ID, timedEncoders);
+    }
+}
@@ -0,0 +1,71 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.security.corespringsecurity.service.UserService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 성공 이후, 저장된 비밀번호 해시가 현재 설정보다 약한 경우(ex. bcrypt strength 가 낮은 경우) 백그라운드에서 다시 해시한다.
+ *
+ * {@link PasswordEncoder#upgradeEncoding(String)}
+ *      : true 이면 현재 encoder 설정으로 다시 encode 해야 하는 해시
+ *
+ * 재해시는 요청 스레드가 아닌 별도의 스레드에서 처리한다.
+ *      : 대기열이 가득 차면 버린다(다음 로그인에서 다시 시도)
+ *      : 같은 사용자에 대한 재해시가 이미 대기중이면 추가하지 않는다.
+ */
+public class PasswordUpgrader implements DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserService userService;
+    private final ExecutorService executor;
+    private final Set<String> pendingUsernames = ConcurrentHashMap.newKeySet();
+
+    public PasswordUpgrader(PasswordEncoder passwordEncoder, UserService userService) {
+        this.passwordEncoder = passwordEncoder;
+        this.userService = userService;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-upgrader");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void upgradeIfNecessary(String username, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        if (!pendingUsernames.add(username)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    userService.updatePassword(username, passwordEncoder.encode(rawPassword));
+                } finally {
+                    pendingUsernames.remove(username);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingUsernames.remove(username);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
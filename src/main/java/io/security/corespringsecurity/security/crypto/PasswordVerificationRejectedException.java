@@ -0,0 +1,13 @@
+package io.security.corespringsecurity.security.crypto;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 검증 대기열이 가득 찼거나, 대기 시간이 초과되어 검증을 수행하지 못한 경우 발생하는 예외
+ *      => 인증 실패(비밀번호 불일치)가 아니라 서버 과부하이므로 503 으로 응답한다.
+ */
+public class PasswordVerificationRejectedException extends AuthenticationServiceException {
+    public PasswordVerificationRejectedException(String msg) {
+        super(msg);
+    }
+}
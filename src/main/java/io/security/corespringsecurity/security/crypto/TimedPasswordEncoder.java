@@ -0,0 +1,50 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} 의 encode/matches 수행시간을 알고리즘 별로 기록하는 Encoder
+ *
+ * metric
+ *      : security.password.encoder{algorithm=bcrypt|pbkdf2|..., operation=encode|matches}
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    public static final String METRIC_NAME = "security.password.encoder";
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public TimedPasswordEncoder(String algorithm, PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(algorithm, "encode", meterRegistry);
+        this.matchesTimer = timer(algorithm, "matches", meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matches = matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+        return Boolean.TRUE.equals(matches);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(String algorithm, String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(METRIC_NAME)
+                .tag("algorithm", algorithm)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package io.security.corespringsecurity.security.crypto;
+
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 없는 사용자로 로그인할 때도 비밀번호 검증과 같은 비용의 dummy 해시 비교를 수행한다.
+ *      : {@link UsernameNotFoundException} 을 바로 응답하면 응답 시간으로 username 존재 여부를 알 수 있다.(username enumeration)
+ *      : dummy 해시는 처음 사용할 때 현재 encoder 설정(bcrypt strength 등)으로 한번만 만든다.
+ *      : DaoAuthenticationProvider#mitigateAgainstTimingAttack 과 같은 방식
+ */
+public class UnknownUserPasswordCheck {
+
+    private static final String DUMMY_PASSWORD = "userNotFoundPassword";
+
+    private volatile String dummyHash;
+
+    /**
+     * @param passwordEncoder 실제 비밀번호 검증에 사용하는 encoder
+     * @param rawPassword 사용자가 입력한 비밀번호 (null 이면 비교하지 않음)
+     */
+    public void matches(PasswordEncoder passwordEncoder, CharSequence rawPassword) {
+        if (rawPassword == null) {
+            return;
+        }
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(DUMMY_PASSWORD);
+            dummyHash = hash;
+        }
+        passwordEncoder.matches(rawPassword, hash);
+    }
+}
@@ -0,0 +1,85 @@
+package io.security.corespringsecurity.security.filter;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.security.corespringsecurity.security.audit.LoginAuditor;
+import io.security.corespringsecurity.security.common.FormWebAuthenticationDetails;
+import io.security.corespringsecurity.security.token.AjaxAuthenticationToken;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * JSON 로그인 필터 (POST /api/login)
+ *      : {"username": "...", "password": "...", "secret_key": "..."} 를 읽어서 {@link AjaxAuthenticationToken} 으로 인증을 요청한다.
+ *      : secret_key 는 form 로그인과 같이 {@link FormWebAuthenticationDetails} 에 담아 provider 에서 검증한다.
+ *      : 성공/실패 모두 redirect 없이 JSON 으로 응답 (AjaxAuthenticationSuccessHandler, AjaxAuthenticationFailureHandler)
+ *      : Content-Type 이 application/json 이 아니면 인증하지 않는다.
+ *          => 다른 사이트의 form 은 application/json 으로 전송할 수 없으므로(CORS preflight) csrf token 없이 허용한다.
+ *
+ * {@link UsernamePasswordAuthenticationFilter} 와 같이 {@link AbstractAuthenticationProcessingFilter} 를 상속하므로
+ * 세션 저장, 성공/실패 handler 호출 등은 form 로그인과 같은 흐름으로 처리된다.
+ */
+public class AjaxLoginProcessingFilter extends AbstractAuthenticationProcessingFilter {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public AjaxLoginProcessingFilter(String loginProcessingUrl) {
+        super(new AntPathRequestMatcher(loginProcessingUrl, HttpMethod.POST.name()));
+    }
+
+    @Override
+    public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException, IOException {
+        if (!isJson(request)) {
+            throw new AuthenticationServiceException("Content-Type must be application/json");
+        }
+
+        LoginRequest loginRequest;
+        try {
+            loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequest.class);
+        } catch (IOException e) {
+            throw new AuthenticationServiceException("invalid json", e);
+        }
+        request.setAttribute(LoginAuditor.USERNAME_ATTRIBUTE, loginRequest.getUsername());
+        if (!StringUtils.hasText(loginRequest.getUsername()) || !StringUtils.hasText(loginRequest.getPassword())) {
+            throw new AuthenticationServiceException("username or password is empty");
+        }
+
+        AjaxAuthenticationToken authRequest = new AjaxAuthenticationToken(loginRequest.getUsername().trim(), loginRequest.getPassword());
+        authRequest.setDetails(new FormWebAuthenticationDetails(request, loginRequest.getSecretKey()));
+        return getAuthenticationManager().authenticate(authRequest);
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        try {
+            return contentType != null && MediaType.APPLICATION_JSON.equalsTypeAndSubtype(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * JSON 로그인 요청 body
+     */
+    @Getter
+    @Setter
+    static class LoginRequest {
+        private String username;
+        private String password;
+        @JsonProperty("secret_key")
+        private String secretKey;
+    }
+}
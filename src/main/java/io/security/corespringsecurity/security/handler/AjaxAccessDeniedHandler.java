@@ -0,0 +1,22 @@
+package io.security.corespringsecurity.security.handler;
+
+import io.security.corespringsecurity.security.common.AjaxResponses;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * /api/** 인가 거부시 /denied 로 redirect 하지 않고 403 으로 응답한다. ({@link CustomAccessDeniedHandler} 의 JSON 버전)
+ */
+public class AjaxAccessDeniedHandler implements AccessDeniedHandler {
+
+    private static final byte[] ACCESS_DENIED = AjaxResponses.error("access_denied");
+
+    @Override
+    public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException {
+        AjaxResponses.write(response, HttpServletResponse.SC_FORBIDDEN, ACCESS_DENIED);
+    }
+}
@@ -0,0 +1,74 @@
+package io.security.corespringsecurity.security.handler;
+
+import io.security.corespringsecurity.security.audit.LoginAuditor;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import io.security.corespringsecurity.security.common.AjaxResponses;
+import io.security.corespringsecurity.security.crypto.PasswordVerificationRejectedException;
+import io.security.corespringsecurity.security.throttle.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * JSON 로그인 실패시 로그인 페이지로 redirect 하지 않고 상태 코드와 {"error":"..."} 로 응답한다.
+ *      : {@link PasswordVerificationRejectedException} => 503(Retry-After) server_busy
+ *      : {@link LoginThrottledException} => 429(Retry-After) too_many_attempts
+ *      : {@link AuthenticationServiceException} (잘못된 요청 body 등) => 400 invalid_request
+ *      : 그 외 (없는 회원, 비밀번호 불일치 구분 없이) => 401 invalid_credentials
+ *
+ * {@link LoginAuditor}: 모든 인증 실패를 기록 (username, remoteAddr, 예외 타입)
+ */
+@Component
+public class AjaxAuthenticationFailureHandler implements AuthenticationFailureHandler {
+
+    private static final byte[] SERVER_BUSY = AjaxResponses.error("server_busy");
+    private static final byte[] TOO_MANY_ATTEMPTS = AjaxResponses.error("too_many_attempts");
+    private static final byte[] INVALID_REQUEST = AjaxResponses.error("invalid_request");
+    private static final byte[] INVALID_CREDENTIALS = AjaxResponses.error("invalid_credentials");
+
+    private LoginAuditor loginAuditor = LoginAuditor.NO_OP;
+    private LoginMetrics loginMetrics = LoginMetrics.NO_OP;
+
+    @Autowired(required = false)
+    public void setLoginAuditor(LoginAuditor loginAuditor) {
+        this.loginAuditor = loginAuditor;
+    }
+
+    @Autowired(required = false)
+    public void setLoginMetrics(LoginMetrics loginMetrics) {
+        this.loginMetrics = loginMetrics;
+    }
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException {
+        long start = System.nanoTime();
+        try {
+            loginAuditor.recordFailure(request, exception);
+            if (exception instanceof PasswordVerificationRejectedException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, CustomAuthenticationFailureHandler.RETRY_AFTER_SECONDS);
+                AjaxResponses.write(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, SERVER_BUSY);
+                return;
+            }
+            if (exception instanceof LoginThrottledException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(((LoginThrottledException) exception).getRetryAfterSeconds()));
+                AjaxResponses.write(response, HttpStatus.TOO_MANY_REQUESTS.value(), TOO_MANY_ATTEMPTS);
+                return;
+            }
+            if (exception instanceof AuthenticationServiceException) {
+                AjaxResponses.write(response, HttpServletResponse.SC_BAD_REQUEST, INVALID_REQUEST);
+                return;
+            }
+            AjaxResponses.write(response, HttpServletResponse.SC_UNAUTHORIZED, INVALID_CREDENTIALS);
+        } finally {
+            loginMetrics.handlerFailure(start, exception);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.security.corespringsecurity.security.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.security.corespringsecurity.security.audit.LoginAuditor;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * JSON 로그인 성공시 redirect 하지 않고 200 {"username":"...","authorities":[...]} 으로 응답한다.
+ *
+ * {@link LoginAuditor}: 모든 인증 성공을 기록 (username, remoteAddress)
+ */
+@Component
+public class AjaxAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LoginAuditor loginAuditor = LoginAuditor.NO_OP;
+    private LoginMetrics loginMetrics = LoginMetrics.NO_OP;
+
+    @Autowired(required = false)
+    public void setLoginAuditor(LoginAuditor loginAuditor) {
+        this.loginAuditor = loginAuditor;
+    }
+
+    @Autowired(required = false)
+    public void setLoginMetrics(LoginMetrics loginMetrics) {
+        this.loginMetrics = loginMetrics;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
+        long start = System.nanoTime();
+        try {
+            loginAuditor.recordSuccess(request, authentication);
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("username", authentication.getName());
+            body.put("authorities", authentication.getAuthorities()
+                    .stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toList()));
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), body);
+        } finally {
+            loginMetrics.handlerSuccess(start);
+        }
+    }
+}
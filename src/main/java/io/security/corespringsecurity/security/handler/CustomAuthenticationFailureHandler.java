@@ -1,5 +1,12 @@
 package io.security.corespringsecurity.security.handler;
 
+import io.security.corespringsecurity.security.audit.LoginAuditor;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import io.security.corespringsecurity.security.crypto.PasswordVerificationRejectedException;
+import io.security.corespringsecurity.security.throttle.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
@@ -18,20 +25,59 @@ import java.io.IOException;
  * {@link CustomAuthenticationFailureHandler}: 인증 검증할때 인증 실패
  *      => 인증 예외(ex. {@link AuthenticationProvider}, {@link UserDetailsService} 등 검증 실패로 인한 예외 발생시)가 발생했을 경우 인증 필터({@link AuthenticationFilter}가 예외를 받고, 예외를 파라미터에 담아
  *      {@link CustomAuthenticationFailureHandler#onAuthenticationFailure(HttpServletRequest, HttpServletResponse, AuthenticationException)} 메서드를 호출함. 이때 호출되는 객체
+ *
+ * {@link PasswordVerificationRejectedException}: 서버 과부하로 비밀번호 검증을 수행하지 못한 경우
+ *      => 로그인 페이지로 redirect 하지 않고 503(Retry-After) 으로 바로 응답한다.
+ *
+ * {@link LoginThrottledException}: 로그인 시도 횟수 제한을 넘은 경우
+ *      => 로그인 페이지로 redirect 하지 않고 429(Retry-After) 으로 바로 응답한다.
+ *
+ * {@link LoginAuditor}: 모든 인증 실패를 기록 (username, remoteAddr, 예외 타입)
+ *
+ * {@link LoginMetrics}: handler 수행시간, 예외 타입별 인증 실패 수를 기록
  */
 @Component
 public class CustomAuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 
+    public static final String RETRY_AFTER_SECONDS = "1";
+    private static final String INVALID_SECRET_KEY_URL = "/login?error=true&exception=Invalid Secret Key";
+    private static final String INVALID_USERNAME_OR_PASSWORD_URL = "/login?error=true&exception=Invalid Username or Password";
+
+    private LoginAuditor loginAuditor = LoginAuditor.NO_OP;
+    private LoginMetrics loginMetrics = LoginMetrics.NO_OP;
+
+    @Autowired(required = false)
+    public void setLoginAuditor(LoginAuditor loginAuditor) {
+        this.loginAuditor = loginAuditor;
+    }
+
+    @Autowired(required = false)
+    public void setLoginMetrics(LoginMetrics loginMetrics) {
+        this.loginMetrics = loginMetrics;
+    }
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
-        String errorMessage = "Invalid Username or Password";
-        if (exception instanceof InsufficientAuthenticationException) {
-            errorMessage = "Invalid Secret Key";
-        }
-        if (!(exception instanceof InsufficientAuthenticationException)) {
-            errorMessage = "Invalid Username or Password";
+        long start = System.nanoTime();
+        try {
+            loginAuditor.recordFailure(request, exception);
+            if (exception instanceof PasswordVerificationRejectedException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            if (exception instanceof LoginThrottledException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(((LoginThrottledException) exception).getRetryAfterSeconds()));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                return;
+            }
+            //handler 는 singleton 이므로 defaultFailureUrl 을 요청마다 바꾸지 않고, 미리 만들어 둔 url 로 redirect
+            saveException(request, exception);
+            getRedirectStrategy().sendRedirect(request, response, exception instanceof InsufficientAuthenticationException
+                    ? INVALID_SECRET_KEY_URL
+                    : INVALID_USERNAME_OR_PASSWORD_URL);
+        } finally {
+            loginMetrics.handlerFailure(start, exception);
         }
-        super.setDefaultFailureUrl("/login?error=true&exception=" + errorMessage);
-        super.onAuthenticationFailure(request, response, exception);
     }
 }
@@ -1,5 +1,8 @@
 package io.security.corespringsecurity.security.handler;
 
+import io.security.corespringsecurity.security.audit.LoginAuditor;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.DefaultRedirectStrategy;
 import org.springframework.security.web.RedirectStrategy;
@@ -39,23 +42,45 @@ import static io.security.corespringsecurity.constants.UrlConstant.ROOT_URL;
  *      : 세션에 로그인이 성공하기 이전 요청 정보
  *      : 이전에 인증없이 인증이 필요한 페이지 접근 후 /login 으로 redirect 되었던 기록등을 저장하는 객체
  *      : 이전에 정보가 없는경우에는 이 객체에 정보가 없음.
+ *
+ * {@link LoginAuditor}: 모든 인증 성공을 기록 (username, remoteAddress)
+ *
+ * {@link LoginMetrics}: handler 수행시간, 인증 성공 수를 기록
  */
 @Component
 public class CustomAuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private RequestCache requestCache = new HttpSessionRequestCache();
     private RedirectStrategy redirectStrategy = new DefaultRedirectStrategy();
+    private LoginAuditor loginAuditor = LoginAuditor.NO_OP;
+    private LoginMetrics loginMetrics = LoginMetrics.NO_OP;
+
+    @Autowired(required = false)
+    public void setLoginAuditor(LoginAuditor loginAuditor) {
+        this.loginAuditor = loginAuditor;
+    }
+
+    @Autowired(required = false)
+    public void setLoginMetrics(LoginMetrics loginMetrics) {
+        this.loginMetrics = loginMetrics;
+    }
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
-        setDefaultTargetUrl(ROOT_URL);
-        SavedRequest savedRequest = requestCache.getRequest(request, response);
-        redirectStrategy = getRedirectStrategy();
-        if (savedRequest != null) {
-            redirectStrategy.sendRedirect(request, response, savedRequest.getRedirectUrl());
-        }
-        if (savedRequest == null) {
-            redirectStrategy.sendRedirect(request, response, getDefaultTargetUrl());
+        long start = System.nanoTime();
+        try {
+            loginAuditor.recordSuccess(request, authentication);
+            setDefaultTargetUrl(ROOT_URL);
+            SavedRequest savedRequest = requestCache.getRequest(request, response);
+            redirectStrategy = getRedirectStrategy();
+            if (savedRequest != null) {
+                redirectStrategy.sendRedirect(request, response, savedRequest.getRedirectUrl());
+            }
+            if (savedRequest == null) {
+                redirectStrategy.sendRedirect(request, response, getDefaultTargetUrl());
+            }
+        } finally {
+            loginMetrics.handlerSuccess(start);
         }
     }
 }
@@ -0,0 +1,28 @@
+package io.security.corespringsecurity.security.listener;
+
+import io.security.corespringsecurity.service.SecurityResourceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서버 시작시 DB 에 url 자원이 없으면 기본 자원/권한을 등록한다.
+ *      : 등록 전에도 같은 기본 자원으로 인가하므로 인가 정보를 다시 읽을 필요는 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SetupDataLoader implements ApplicationListener<ContextRefreshedEvent> {
+
+    private final SecurityResourceService securityResourceService;
+    private final AtomicBoolean alreadySetup = new AtomicBoolean();
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (alreadySetup.compareAndSet(false, true)) {
+            securityResourceService.saveDefaultResourcesIfEmpty();
+        }
+    }
+}
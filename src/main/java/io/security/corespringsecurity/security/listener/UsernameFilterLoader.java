@@ -0,0 +1,58 @@
+package io.security.corespringsecurity.security.listener;
+
+import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 서버 시작 후 DB 의 전체 username 으로 {@link UsernameBloomFilter} 를 채운다.
+ *      : 채우는 동안에도 요청은 처리되고, 그동안 filter 는 항상 true(DB 조회)를 반환한다.
+ *      : 실패하면 filter 를 사용하지 않고 계속 DB 를 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UsernameFilterLoader implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameFilterLoader.class);
+
+    private final UsernameBloomFilter usernameBloomFilter;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!usernameBloomFilter.isEnabled() || usernameBloomFilter.isLoaded()) {
+            return;
+        }
+        long start = System.nanoTime();
+        AtomicLong count = new AtomicLong();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            transactionTemplate.execute(status -> {
+                try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                    usernames.forEach(username -> {
+                        usernameBloomFilter.put(username);
+                        count.incrementAndGet();
+                    });
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("username filter load failed; unknown usernames will be looked up in the database", e);
+            return;
+        }
+        usernameBloomFilter.markLoaded();
+        log.info("username filter loaded: usernames={}, elapsed={}ms", count.get(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
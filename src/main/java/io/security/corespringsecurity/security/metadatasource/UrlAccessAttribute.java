@@ -0,0 +1,70 @@
+package io.security.corespringsecurity.security.metadatasource;
+
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * {@link UrlAuthorizationIndex} 에 등록되는 url 접근 조건
+ *      : permitAll, authenticated, hasAnyRole(role bitmask)
+ *
+ * hasAnyRole
+ *      : 권한 이름을 매번 문자열로 비교하지 않고, {@link RoleAuthorities} 가 권한마다 부여한 bit 의 bitmask 로 비교한다.
+ *      : principal 이 {@link AccountPrincipal} 이면 미리 계산된 사용자 roleMask 와 AND 한번으로 판단한다.
+ *      : roleMask 가 0 이면(principal 생성 이후에 권한이 등록된 경우 등) 권한 목록의 bit 로 다시 판단한다.
+ */
+public class UrlAccessAttribute implements ConfigAttribute {
+
+    public static final String ROLE_PREFIX = RoleAuthorities.ROLE_PREFIX;
+
+    public static final UrlAccessAttribute PERMIT_ALL = new UrlAccessAttribute("permitAll", 0L);
+    public static final UrlAccessAttribute AUTHENTICATED = new UrlAccessAttribute("authenticated", 0L);
+
+    private final String attribute;
+    private final long roleMask;
+
+    UrlAccessAttribute(String attribute, long roleMask) {
+        this.attribute = attribute;
+        this.roleMask = roleMask;
+    }
+
+    /**
+     * @param authentication
+     * @param trustResolver 익명 사용자 판별
+     * @return 접근 허용 여부
+     */
+    public boolean isGranted(Authentication authentication, AuthenticationTrustResolver trustResolver) {
+        if (this == PERMIT_ALL) {
+            return true;
+        }
+        if (authentication == null || trustResolver.isAnonymous(authentication)) {
+            return false;
+        }
+        if (this == AUTHENTICATED) {
+            return true;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AccountPrincipal && ((AccountPrincipal) principal).getRoleMask() != 0L) {
+            return (roleMask & ((AccountPrincipal) principal).getRoleMask()) != 0;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if ((roleMask & RoleAuthorities.bit(authority.getAuthority())) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getAttribute() {
+        return attribute;
+    }
+
+    @Override
+    public String toString() {
+        return attribute;
+    }
+}
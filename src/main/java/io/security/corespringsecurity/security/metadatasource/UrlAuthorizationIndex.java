@@ -0,0 +1,230 @@
+package io.security.corespringsecurity.security.metadatasource;
+
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * url -> {@link UrlAccessAttribute} 인덱스 (불변)
+ *
+ * antMatchers() 체인은 요청마다 등록된 {@link AntPathRequestMatcher} 를 순서대로 비교한다.(규칙 수에 비례)
+ * 이 인덱스는 규칙을 미리 컴파일해서 규칙 수와 상관없이 조회한다.
+ *      : "/mypage" 같은 고정 경로 => HashMap 조회
+ *      : "/admin/**" 같은 prefix 경로 => 경로 segment 단위 trie 조회 (요청 경로 깊이만큼만 탐색)
+ *      : 그 외 패턴("/users/{id}", "/css/*.css" 등) => {@link AntPathRequestMatcher} 로 순서대로 비교 (fallback)
+ *      : 어떤 규칙에도 해당하지 않으면 anyRequest 규칙
+ *
+ * 여러 규칙이 일치하면 antMatchers() 와 같이 먼저 등록된 규칙을 사용한다.
+ * 경로는 {@link AntPathRequestMatcher} 와 같이 servletPath + pathInfo 를 사용하고, 대소문자를 구분한다.
+ */
+public class UrlAuthorizationIndex {
+
+    private final Map<String, Rule> exactRules;
+    private final Node prefixRoot;
+    private final List<Rule> fallbackRules;
+    private final UrlAccessAttribute anyRequest;
+    private final Collection<UrlAccessAttribute> allAttributes;
+
+    private UrlAuthorizationIndex(Builder builder) {
+        this.exactRules = builder.exactRules;
+        this.prefixRoot = builder.prefixRoot;
+        this.fallbackRules = builder.fallbackRules;
+        this.anyRequest = builder.anyRequest;
+        Set<UrlAccessAttribute> attributes = new LinkedHashSet<>();
+        builder.allRules.forEach(rule -> attributes.add(rule.attribute));
+        attributes.add(anyRequest);
+        this.allAttributes = Collections.unmodifiableSet(attributes);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public UrlAccessAttribute getAttribute(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null) {
+            path = path + pathInfo;
+        }
+
+        Rule best = exactRules.get(path);
+        best = findPrefixRule(path, best);
+        for (Rule rule : fallbackRules) {
+            if (best != null && best.order < rule.order) {
+                break;//fallbackRules 는 등록 순서로 정렬되어 있음
+            }
+            if (rule.matcher.matches(request)) {
+                best = rule;
+                break;
+            }
+        }
+        return best != null ? best.attribute : anyRequest;
+    }
+
+    public Collection<UrlAccessAttribute> getAllAttributes() {
+        return allAttributes;
+    }
+
+    private Rule findPrefixRule(String path, Rule best) {
+        Node node = prefixRoot;
+        best = earlier(best, node.rule);
+        int start = 1;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end > start) {
+                node = node.children.get(path.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                best = earlier(best, node.rule);
+            }
+            start = end + 1;
+        }
+        return best;
+    }
+
+    private static Rule earlier(Rule current, Rule candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.order < current.order ? candidate : current;
+    }
+
+    private static final class Rule {
+        private final int order;
+        private final UrlAccessAttribute attribute;
+        private final RequestMatcher matcher;
+
+        private Rule(int order, UrlAccessAttribute attribute, RequestMatcher matcher) {
+            this.order = order;
+            this.attribute = attribute;
+            this.matcher = matcher;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Rule rule;
+    }
+
+    public static class Builder {
+
+        private final Map<String, Rule> exactRules = new HashMap<>();
+        private final Node prefixRoot = new Node();
+        private final List<Rule> fallbackRules = new ArrayList<>();
+        private final List<Rule> allRules = new ArrayList<>();
+        private final Map<String, UrlAccessAttribute> roleAttributes = new HashMap<>();
+        private UrlAccessAttribute anyRequest = UrlAccessAttribute.AUTHENTICATED;
+
+        private Builder() {
+        }
+
+        public Builder permitAll(String... patterns) {
+            return add(UrlAccessAttribute.PERMIT_ALL, patterns);
+        }
+
+        public Builder authenticated(String... patterns) {
+            return add(UrlAccessAttribute.AUTHENTICATED, patterns);
+        }
+
+        /**
+         * @param pattern
+         * @param roles "ROLE_" 를 제외한 권한 이름 (hasAnyRole 과 같음)
+         * @return
+         */
+        public Builder hasAnyRole(String pattern, String... roles) {
+            return add(roleAttribute(roles), pattern);
+        }
+
+        public Builder anyRequest(UrlAccessAttribute attribute) {
+            this.anyRequest = attribute;
+            return this;
+        }
+
+        public Builder anyRequestHasAnyRole(String... roles) {
+            return anyRequest(roleAttribute(roles));
+        }
+
+        public UrlAuthorizationIndex build() {
+            return new UrlAuthorizationIndex(this);
+        }
+
+        private Builder add(UrlAccessAttribute attribute, String... patterns) {
+            for (String pattern : patterns) {
+                Rule rule = new Rule(allRules.size(), attribute, new AntPathRequestMatcher(pattern));
+                allRules.add(rule);
+                if (isExact(pattern)) {
+                    exactRules.putIfAbsent(pattern, rule);
+                } else if (isPrefix(pattern)) {
+                    Node node = prefixNode(pattern.substring(0, pattern.length() - 3));
+                    if (node.rule == null) {
+                        node.rule = rule;
+                    }
+                } else {
+                    fallbackRules.add(rule);
+                }
+            }
+            return this;
+        }
+
+        private UrlAccessAttribute roleAttribute(String... roles) {
+            Set<String> authorities = new LinkedHashSet<>();
+            for (String role : roles) {
+                authorities.add(RoleAuthorities.withPrefix(role));
+            }
+            String key = String.join(",", authorities);
+            return roleAttributes.computeIfAbsent(key, k -> {
+                long mask = 0L;
+                for (String authority : authorities) {
+                    mask |= RoleAuthorities.register(authority);
+                }
+                return new UrlAccessAttribute("hasAnyRole(" + key + ")", mask);
+            });
+        }
+
+        private Node prefixNode(String path) {
+            Node node = prefixRoot;
+            for (String segment : path.split("/")) {
+                if (!segment.isEmpty()) {
+                    node = node.children.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            return node;
+        }
+
+        /**
+         * "/mypage" 처럼 와일드카드, 중복 '/' 가 없는 경로
+         */
+        private static boolean isExact(String pattern) {
+            return pattern.startsWith("/") && !hasWildcard(pattern) && !pattern.contains("//");
+        }
+
+        /**
+         * "/admin/**" 처럼 앞부분이 고정 경로이고 마지막이 "/**" 인 경로
+         */
+        private static boolean isPrefix(String pattern) {
+            if (!pattern.endsWith("/**")) {
+                return false;
+            }
+            String prefix = pattern.substring(0, pattern.length() - 3);
+            return (prefix.isEmpty() || isExact(prefix)) && !prefix.endsWith("/");
+        }
+
+        private static boolean hasWildcard(String pattern) {
+            return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+        }
+    }
+}
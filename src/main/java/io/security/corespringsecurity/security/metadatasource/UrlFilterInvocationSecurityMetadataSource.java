@@ -0,0 +1,53 @@
+package io.security.corespringsecurity.security.metadatasource;
+
+import io.security.corespringsecurity.service.SecurityResourceService;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.web.FilterInvocation;
+import org.springframework.security.web.access.intercept.FilterInvocationSecurityMetadataSource;
+import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link FilterSecurityInterceptor} 가 요청 url 에 필요한 권한 정보를 조회하는 객체
+ *      : {@link UrlAuthorizationIndex} 에서 요청 url 의 {@link UrlAccessAttribute} 를 조회한다.
+ *
+ * 인덱스는 생성시 {@link SecurityResourceService} 에서 한번 읽어온 불변 snapshot 이다.
+ *      : 요청 처리시에는 DB 를 조회하지 않고 현재 snapshot 만 읽는다.
+ *      : {@link #reload()} 는 DB 에서 새 snapshot 을 만든 뒤 한번에 교체한다.(교체 전/후 요청은 각각 이전/새 snapshot 전체를 사용)
+ */
+public class UrlFilterInvocationSecurityMetadataSource implements FilterInvocationSecurityMetadataSource {
+
+    private final SecurityResourceService securityResourceService;
+    private final AtomicReference<UrlAuthorizationIndex> index;
+
+    public UrlFilterInvocationSecurityMetadataSource(SecurityResourceService securityResourceService) {
+        this.securityResourceService = securityResourceService;
+        this.index = new AtomicReference<>(securityResourceService.getUrlAuthorizationIndex());
+    }
+
+    @Override
+    public Collection<ConfigAttribute> getAttributes(Object object) throws IllegalArgumentException {
+        return Collections.singletonList(index.get().getAttribute(((FilterInvocation) object).getRequest()));
+    }
+
+    @Override
+    public Collection<ConfigAttribute> getAllConfigAttributes() {
+        return Collections.unmodifiableCollection(index.get().getAllAttributes());
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return FilterInvocation.class.isAssignableFrom(clazz);
+    }
+
+    /**
+     * DB 의 자원/권한 정보로 snapshot 을 교체한다.
+     * 조회 중 예외가 발생하면 기존 snapshot 을 유지한다.
+     */
+    public void reload() {
+        index.set(securityResourceService.getUrlAuthorizationIndex());
+    }
+}
@@ -0,0 +1,53 @@
+package io.security.corespringsecurity.security.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.servlet.Filter;
+import java.util.List;
+
+/**
+ * {@link FilterChainProxy} 가 생성되면, 등록된 모든 {@link SecurityFilterChain} 의 filter 를 {@link TimedFilter} 로 감싼다.
+ *      : filter 순서, 종류는 바뀌지 않는다.
+ */
+public class FilterChainTimingPostProcessor implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterChainTimingPostProcessor.class);
+
+    private final ObjectProvider<FilterTimings> filterTimings;
+
+    /**
+     * @param filterTimings BeanPostProcessor 는 다른 bean 보다 먼저 생성되므로, FilterChainProxy 를 만났을 때 꺼내 쓴다.
+     */
+    public FilterChainTimingPostProcessor(ObjectProvider<FilterTimings> filterTimings) {
+        this.filterTimings = filterTimings;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof FilterChainProxy) {
+            FilterTimings timings = filterTimings.getObject();
+            for (SecurityFilterChain chain : ((FilterChainProxy) bean).getFilterChains()) {
+                wrap(chain.getFilters(), timings);
+            }
+        }
+        return bean;
+    }
+
+    private static void wrap(List<Filter> filters, FilterTimings timings) {
+        if (filters.isEmpty()) {
+            return;
+        }
+        try {
+            filters.replaceAll(filter -> filter instanceof TimedFilter ? filter : new TimedFilter(filter, timings));
+            log.info("security filter timing enabled: {} filters", filters.size());
+        } catch (UnsupportedOperationException e) {
+            log.warn("security filter chain is not modifiable; filter timing disabled for {}", filters);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.security.corespringsecurity.security.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * url 별로 어떤 security filter 가 시간을 많이 쓰는지 조회 (/actuator/securityfilters)
+ */
+@Endpoint(id = "securityfilters")
+public class FilterTimingEndpoint {
+
+    private final FilterTimings filterTimings;
+
+    public FilterTimingEndpoint(FilterTimings filterTimings) {
+        this.filterTimings = filterTimings;
+    }
+
+    @ReadOperation
+    public Map<String, List<FilterTimings.FilterTiming>> filterTimings() {
+        return filterTimings.snapshot();
+    }
+}
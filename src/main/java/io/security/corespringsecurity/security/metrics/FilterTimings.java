@@ -0,0 +1,203 @@
+package io.security.corespringsecurity.security.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * security filter 별 수행시간, 메모리 할당량 기록 ({@link TimedFilter} 가 호출)
+ *
+ * metric
+ *      : security.filter{url, filter} ; filter 자신의 수행시간(다음 filter 이후 수행시간 제외)
+ *      : security.filter.allocation{url, filter} ; filter 자신이 할당한 byte 추정치(JVM 이 지원하는 경우만)
+ *
+ * url 태그는 요청 uri 가 아닌, 처음 일치하는 url pattern(그 외 other) 으로 기록한다.
+ *
+ * 이 클래스의 logger 를 debug 로 설정하면 요청마다 filter 별 수행시간을 한줄로 기록한다.
+ */
+public class FilterTimings {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterTimings.class);
+
+    public static final String FILTER = "security.filter";
+    public static final String FILTER_ALLOCATION = "security.filter.allocation";
+    public static final String OTHER_URL = "other";
+
+    private static final String URL_ATTRIBUTE = FilterTimings.class.getName() + ".URL";
+    private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN = allocationMxBean();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AntPathRequestMatcher> urlMatchers = new LinkedHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Meters>> meters = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestTrace> requestTrace = ThreadLocal.withInitial(RequestTrace::new);
+
+    /**
+     * @param meterRegistry
+     * @param urlPatterns url 태그로 사용할 pattern (먼저 일치하는 pattern 을 사용하므로 구체적인 pattern 을 앞에 둔다)
+     */
+    public FilterTimings(MeterRegistry meterRegistry, List<String> urlPatterns) {
+        this.meterRegistry = meterRegistry;
+        for (String urlPattern : urlPatterns) {
+            urlMatchers.put(urlPattern, new AntPathRequestMatcher(urlPattern));
+        }
+    }
+
+    /**
+     * 요청의 url 태그 ; 요청당 한번만 계산하고 request attribute 에 저장한다.
+     */
+    String resolveUrl(HttpServletRequest request) {
+        Object url = request.getAttribute(URL_ATTRIBUTE);
+        if (url != null) {
+            return (String) url;
+        }
+        String resolved = OTHER_URL;
+        for (Map.Entry<String, AntPathRequestMatcher> entry : urlMatchers.entrySet()) {
+            if (entry.getValue().matches(request)) {
+                resolved = entry.getKey();
+                break;
+            }
+        }
+        request.setAttribute(URL_ATTRIBUTE, resolved);
+        return resolved;
+    }
+
+    void enter() {
+        requestTrace.get().depth++;
+    }
+
+    /**
+     * filter 수행 결과 기록 ; 가장 바깥 filter 가 끝나면 요청 단위로 debug 로그를 남긴다.
+     *
+     * @param selfNanos filter 자신의 수행시간
+     * @param selfAllocatedBytes filter 자신의 할당량(측정 불가시 음수)
+     */
+    void exit(HttpServletRequest request, String url, String filter, long selfNanos, long selfAllocatedBytes) {
+        Meters filterMeters = meters(url, filter);
+        filterMeters.timer.record(selfNanos, TimeUnit.NANOSECONDS);
+        if (selfAllocatedBytes >= 0) {
+            filterMeters.allocation.record(selfAllocatedBytes);
+        }
+
+        RequestTrace trace = requestTrace.get();
+        if (log.isDebugEnabled()) {
+            trace.filters.addFirst(filter + "=" + TimeUnit.NANOSECONDS.toMicros(selfNanos) + "us/" + selfAllocatedBytes + "B");
+        }
+        if (--trace.depth == 0) {
+            if (log.isDebugEnabled()) {
+                log.debug("{} {} url={} filters={}", request.getMethod(), request.getRequestURI(), url, trace.filters);
+            }
+            requestTrace.remove();
+        }
+    }
+
+    /**
+     * url 별 filter 수행시간 요약 ; filter 자신의 누적 수행시간이 큰 순서로 정렬
+     */
+    public Map<String, List<FilterTiming>> snapshot() {
+        Map<String, List<FilterTiming>> snapshot = new LinkedHashMap<>();
+        meters.forEach((url, filters) -> {
+            List<FilterTiming> timings = new ArrayList<>();
+            filters.forEach((filter, filterMeters) -> timings.add(filterMeters.toFilterTiming(filter)));
+            timings.sort(Comparator.comparingDouble(FilterTiming::getTotalMillis).reversed());
+            snapshot.put(url, timings);
+        });
+        return snapshot;
+    }
+
+    /**
+     * 현재 스레드가 지금까지 할당한 byte (측정 불가시 -1)
+     */
+    static long allocatedBytes() {
+        return ALLOCATION_MX_BEAN == null ? -1 : ALLOCATION_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private Meters meters(String url, String filter) {
+        return meters.computeIfAbsent(url, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(filter, key -> new Meters(
+                        Timer.builder(FILTER)
+                                .tag("url", url)
+                                .tag("filter", filter)
+                                .publishPercentiles(0.99)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry),
+                        DistributionSummary.builder(FILTER_ALLOCATION)
+                                .tag("url", url)
+                                .tag("filter", filter)
+                                .baseUnit("bytes")
+                                .register(meterRegistry)));
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMxBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationMxBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (allocationMxBean.isThreadAllocatedMemorySupported() && allocationMxBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationMxBean;
+            }
+        }
+        return null;
+    }
+
+    private static class RequestTrace {
+        private int depth;
+        private final Deque<String> filters = new ArrayDeque<>();
+    }
+
+    @AllArgsConstructor
+    private static class Meters {
+        private final Timer timer;
+        private final DistributionSummary allocation;
+
+        private FilterTiming toFilterTiming(String filter) {
+            HistogramSnapshot histogram = timer.takeSnapshot();
+            double p99 = 0;
+            for (ValueAtPercentile percentile : histogram.percentileValues()) {
+                p99 = percentile.value(TimeUnit.MICROSECONDS);
+            }
+            return new FilterTiming(
+                    filter,
+                    histogram.count(),
+                    histogram.total(TimeUnit.MILLISECONDS),
+                    histogram.mean(TimeUnit.MICROSECONDS),
+                    histogram.max(TimeUnit.MICROSECONDS),
+                    p99,
+                    allocation.mean());
+        }
+    }
+
+    /**
+     * filter 하나의 수행시간 요약
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FilterTiming {
+        private final String filter;
+        private final long count;
+        private final double totalMillis;
+        private final double meanMicros;
+        private final double maxMicros;
+        private final double p99Micros;
+        private final double meanAllocatedBytes;
+    }
+}
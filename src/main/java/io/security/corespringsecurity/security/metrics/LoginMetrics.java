@@ -0,0 +1,119 @@
+package io.security.corespringsecurity.security.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 단계별 수행시간, 결과 기록
+ *
+ * metric
+ *      : security.login.authenticate{type=form|ajax, outcome, exception} ; AuthenticationProvider#authenticate 전체
+ *      : security.login.stage{stage=user_lookup|password_match|secret_key, outcome, exception} ; provider 내부 단계
+ *      : security.login.handler{outcome=success|failure, exception} ; 성공/실패 handler
+ *      : security.login.attempts{outcome=success|failure, exception} ; 로그인 결과 수 (실패율 알림)
+ *
+ * outcome=success|failure, exception=실패시 예외 클래스 이름(성공시 none)
+ * timer 는 percentile histogram 을 함께 기록하므로 prometheus 에서 histogram_quantile 로 p99 를 구할 수 있다.
+ * 로그인 요청마다 builder 생성, registry 조회를 하지 않도록 meter 는 (name, tag) 별로 한번만 등록하고 재사용한다.
+ */
+public class LoginMetrics {
+
+    /**
+     * 등록된 registry 가 없는 {@link CompositeMeterRegistry} ; 기록하지 않음
+     */
+    public static final LoginMetrics NO_OP = new LoginMetrics(new CompositeMeterRegistry());
+
+    public static final String AUTHENTICATE = "security.login.authenticate";
+    public static final String STAGE = "security.login.stage";
+    public static final String HANDLER = "security.login.handler";
+    public static final String ATTEMPTS = "security.login.attempts";
+
+    public static final String STAGE_USER_LOOKUP = "user_lookup";
+    public static final String STAGE_PASSWORD_MATCH = "password_match";
+    public static final String STAGE_SECRET_KEY = "secret_key";
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, Timer>>> timers = new ConcurrentHashMap<>();//name -> tag 값 -> exception
+    private final ConcurrentMap<String, Counter> attempts = new ConcurrentHashMap<>();//exception
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * provider 전체 수행시간 기록
+     */
+    public <T> T authenticate(String type, Supplier<T> authentication) {
+        return time(AUTHENTICATE, "type", type, authentication);
+    }
+
+    /**
+     * provider 내부 단계 수행시간 기록
+     */
+    public <T> T stage(String stage, Supplier<T> operation) {
+        return time(STAGE, "stage", stage, operation);
+    }
+
+    public void handlerSuccess(long startNanos) {
+        record(HANDLER, null, null, null, startNanos);
+        attempts(null).increment();
+    }
+
+    public void handlerFailure(long startNanos, Exception exception) {
+        record(HANDLER, null, null, exception, startNanos);
+        attempts(exception).increment();
+    }
+
+    private <T> T time(String name, String key, String value, Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            record(name, key, value, null, start);
+            return result;
+        } catch (RuntimeException e) {
+            record(name, key, value, e, start);
+            throw e;
+        }
+    }
+
+    private void record(String name, String key, String value, Exception exception, long startNanos) {
+        timer(name, key, value, exception).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String name, String key, String value, Exception exception) {
+        return timers.computeIfAbsent(name, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key == null ? NONE : value, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(exceptionName(exception), exceptionName -> {
+                    Timer.Builder builder = Timer.builder(name)
+                            .tag("outcome", exception == null ? SUCCESS : FAILURE)
+                            .tag("exception", exceptionName)
+                            .publishPercentileHistogram();
+                    if (key != null) {
+                        builder.tag(key, value);
+                    }
+                    return builder.register(meterRegistry);
+                });
+    }
+
+    private Counter attempts(Exception exception) {
+        return attempts.computeIfAbsent(exceptionName(exception), exceptionName -> Counter.builder(ATTEMPTS)
+                .tag("outcome", exception == null ? SUCCESS : FAILURE)
+                .tag("exception", exceptionName)
+                .register(meterRegistry));
+    }
+
+    private static String exceptionName(Exception exception) {
+        return exception == null ? NONE : exception.getClass().getSimpleName();
+    }
+}
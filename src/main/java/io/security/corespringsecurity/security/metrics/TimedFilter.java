@@ -0,0 +1,93 @@
+package io.security.corespringsecurity.security.metrics;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * security filter 하나를 감싸서 수행시간, 할당량을 {@link FilterTimings} 에 기록하는 Filter
+ *      : 다음 filter 를 호출하는 chain 도 감싸서, 다음 filter 이후에 걸린 시간/할당량은 빼고 filter 자신의 비용만 기록한다.
+ */
+public class TimedFilter implements Filter {
+
+    private final Filter delegate;
+    private final String name;
+    private final FilterTimings filterTimings;
+
+    public TimedFilter(Filter delegate, FilterTimings filterTimings) {
+        this.delegate = delegate;
+        this.name = delegate.getClass().getSimpleName();
+        this.filterTimings = filterTimings;
+    }
+
+    public Filter getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        delegate.init(filterConfig);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest)) {
+            delegate.doFilter(request, response, chain);
+            return;
+        }
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String url = filterTimings.resolveUrl(httpRequest);
+        DownstreamChain downstream = new DownstreamChain(chain);
+
+        filterTimings.enter();
+        long allocated = FilterTimings.allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            delegate.doFilter(request, response, downstream);
+        } finally {
+            long selfNanos = System.nanoTime() - start - downstream.nanos;
+            long selfAllocatedBytes = allocated < 0 ? -1 : FilterTimings.allocatedBytes() - allocated - downstream.allocatedBytes;
+            filterTimings.exit(httpRequest, url, name, selfNanos, selfAllocatedBytes);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    @Override
+    public String toString() {
+        return "Timed" + delegate;
+    }
+
+    /**
+     * 다음 filter 이후 수행시간, 할당량을 기록하는 chain
+     */
+    private static class DownstreamChain implements FilterChain {
+        private final FilterChain chain;
+        private long nanos;
+        private long allocatedBytes;
+
+        private DownstreamChain(FilterChain chain) {
+            this.chain = chain;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            long allocated = FilterTimings.allocatedBytes();
+            long start = System.nanoTime();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                nanos += System.nanoTime() - start;
+                allocatedBytes += FilterTimings.allocatedBytes() - allocated;
+            }
+        }
+    }
+}
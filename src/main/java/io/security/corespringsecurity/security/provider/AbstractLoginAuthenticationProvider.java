@@ -0,0 +1,118 @@
+package io.security.corespringsecurity.security.provider;
+
+import io.security.corespringsecurity.security.common.FormWebAuthenticationDetails;
+import io.security.corespringsecurity.security.crypto.PasswordUpgrader;
+import io.security.corespringsecurity.security.crypto.UnknownUserPasswordCheck;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.security.throttle.LoginThrottle;
+import io.security.corespringsecurity.security.throttle.LoginThrottledException;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * 로그인(id/password + secret_key) 인증 공통 처리
+ *      : 시도 횟수 제한 -> 사용자 조회 -> 비밀번호 검증 -> secret_key 검증 -> 재해시 -> 인증 토큰 생성
+ *      : 하위 클래스는 지원하는 토큰({@link #supports(Class)}), metric type, 인증 성공 토큰 생성만 정한다.
+ */
+public abstract class AbstractLoginAuthenticationProvider implements AuthenticationProvider {
+    private final CustomUsersDetailsService customUsersDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordUpgrader passwordUpgrader;
+    private final LoginThrottle loginThrottle;
+    private final LoginMetrics loginMetrics;
+    private final UnknownUserPasswordCheck unknownUserPasswordCheck = new UnknownUserPasswordCheck();
+
+    protected AbstractLoginAuthenticationProvider(CustomUsersDetailsService customUsersDetailsService,
+                                                  PasswordEncoder passwordEncoder,
+                                                  PasswordUpgrader passwordUpgrader,
+                                                  LoginThrottle loginThrottle,
+                                                  LoginMetrics loginMetrics) {
+        this.customUsersDetailsService = customUsersDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordUpgrader = passwordUpgrader;
+        this.loginThrottle = loginThrottle;
+        this.loginMetrics = loginMetrics;
+    }
+
+    /**
+     * {@link LoginThrottle#check(String, String)}
+     *  : 사용자 조회(DB), 비밀번호 검증(bcrypt) 전에 username, ip 별 시도 횟수를 확인하고, 제한을 넘으면 {@link LoginThrottledException}
+     *
+     * {@link UnknownUserPasswordCheck}
+     *  : 사용자가 없으면({@link UsernameNotFoundException}) dummy 해시와 비교한 뒤 예외를 던져서, 있는 사용자와 응답 시간을 맞춘다.
+     *
+     * secret_key
+     *  : {@link FormWebAuthenticationDetails} 에 담긴 값이 없거나 다르면 {@link InsufficientAuthenticationException}
+     *
+     * {@link LoginMetrics}
+     *  : 전체(type={@link #type()}) 와 사용자 조회, 비밀번호 검증, secret key 검증 단계별 수행시간을 결과(예외) 별로 기록
+     *
+     * @param authentication the authentication request object.(사용자가 입력한 id/password 등 인증에 필요한 정보가 넘어오는 인수)
+     * @return {@link #createAuthentication(AccountContext, Object)} 로 생성한 인증 토큰
+     * @throws AuthenticationException
+     */
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        return loginMetrics.authenticate(type(), () -> doAuthenticate(authentication));
+    }
+
+    private Authentication doAuthenticate(Authentication authentication) {
+        String username = authentication.getName();
+        String password = (String) authentication.getCredentials();
+
+        Object details = authentication.getDetails();
+        loginThrottle.check(username, details instanceof WebAuthenticationDetails
+                ? ((WebAuthenticationDetails) details).getRemoteAddress()
+                : null);
+
+        AccountContext accountContext;
+        try {
+            accountContext = loginMetrics.stage(LoginMetrics.STAGE_USER_LOOKUP,
+                    () -> (AccountContext) customUsersDetailsService.loadUserByUsername(username));
+        } catch (UsernameNotFoundException e) {
+            //없는 사용자도 비밀번호 검증만큼 시간을 써서, 응답 시간으로 username 존재 여부를 알 수 없게 한다.
+            unknownUserPasswordCheck.matches(passwordEncoder, password);
+            throw e;
+        }
+
+        if (!loginMetrics.stage(LoginMetrics.STAGE_PASSWORD_MATCH,
+                () -> passwordEncoder.matches(password, accountContext.getPassword()))) {
+            throw new BadCredentialsException("invalid password");
+        }
+
+        String secretKey = details instanceof FormWebAuthenticationDetails
+                ? ((FormWebAuthenticationDetails) details).getSecretKey()
+                : null;
+        loginMetrics.stage(LoginMetrics.STAGE_SECRET_KEY, () -> {
+            if (secretKey == null || !"secret".equals(secretKey)) {
+                throw new InsufficientAuthenticationException("InsufficientAuthenticationException");
+            }
+            return secretKey;
+        });
+
+        //인증에 성공한 경우에만 평문 password 를 알 수 있으므로, 이 시점에 오래된 해시를 재해시하도록 요청
+        passwordUpgrader.upgradeIfNecessary(username, password, accountContext.getPassword());
+
+        return createAuthentication(accountContext, details);
+    }
+
+    /**
+     * @return {@link LoginMetrics#AUTHENTICATE} 의 type tag (form, ajax)
+     */
+    protected abstract String type();
+
+    /**
+     * @param accountContext 인증된 사용자
+     * @param details 인증 요청의 details
+     * @return 인증에 성공한 토큰 (credential 은 남기지 않는다.)
+     */
+    protected abstract Authentication createAuthentication(AccountContext accountContext, Object details);
+}
@@ -0,0 +1,47 @@
+package io.security.corespringsecurity.security.provider;
+
+import io.security.corespringsecurity.security.common.FormWebAuthenticationDetails;
+import io.security.corespringsecurity.security.crypto.PasswordUpgrader;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
+import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.security.throttle.LoginThrottle;
+import io.security.corespringsecurity.security.token.AjaxAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * JSON 로그인({@link AjaxAuthenticationToken}) 인증
+ *      : {@link CustomAuthenticationProvider} 와 같은 순서로 처리한다. ({@link AbstractLoginAuthenticationProvider})
+ *      : secret_key 는 요청 body 에서 읽어 {@link FormWebAuthenticationDetails} 에 담겨 있다.
+ */
+public class AjaxAuthenticationProvider extends AbstractLoginAuthenticationProvider {
+
+    public AjaxAuthenticationProvider(CustomUsersDetailsService customUsersDetailsService,
+                                      PasswordEncoder passwordEncoder,
+                                      PasswordUpgrader passwordUpgrader,
+                                      LoginThrottle loginThrottle,
+                                      LoginMetrics loginMetrics) {
+        super(customUsersDetailsService, passwordEncoder, passwordUpgrader, loginThrottle, loginMetrics);
+    }
+
+    @Override
+    protected String type() {
+        return "ajax";
+    }
+
+    @Override
+    protected Authentication createAuthentication(AccountContext accountContext, Object details) {
+        AjaxAuthenticationToken result = new AjaxAuthenticationToken(
+                accountContext.getPrincipal(),
+                null,
+                accountContext.getAuthorities());
+        result.setDetails(details);
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return AjaxAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
@@ -1,33 +1,41 @@
 package io.security.corespringsecurity.security.provider;
 
-import io.security.corespringsecurity.security.common.FormWebAuthenticationDetails;
-import io.security.corespringsecurity.security.common.FormWebAuthenticationDetailsSource;
+import io.security.corespringsecurity.security.crypto.PasswordUpgrader;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
 import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
 import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.*;
+import io.security.corespringsecurity.security.throttle.LoginThrottle;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.authentication.WebAuthenticationDetails;
 
-import javax.servlet.http.HttpServletRequest;
 import java.util.Collection;
 
 /**
  * 사용자가 입력한 정보로 추가적인 인증절차를 SecurityConfig 에 설정하는 Service
+ *      : 인증절차(id/password, secret_key...)는 {@link AbstractLoginAuthenticationProvider} 에서 진행한다.
  */
-@RequiredArgsConstructor
-public class CustomAuthenticationProvider implements AuthenticationProvider {
-    private final CustomUsersDetailsService customUsersDetailsService;
-    private final PasswordEncoder passwordEncoder;
+public class CustomAuthenticationProvider extends AbstractLoginAuthenticationProvider {
+
+    public CustomAuthenticationProvider(CustomUsersDetailsService customUsersDetailsService,
+                                        PasswordEncoder passwordEncoder,
+                                        PasswordUpgrader passwordUpgrader,
+                                        LoginThrottle loginThrottle,
+                                        LoginMetrics loginMetrics) {
+        super(customUsersDetailsService, passwordEncoder, passwordUpgrader, loginThrottle, loginMetrics);
+    }
+
+    @Override
+    protected String type() {
+        return "form";
+    }
 
     /**
-     * 추가적인 인증절차를 진행(id/password...)
      * 인증절차 이후 {@link UsernamePasswordAuthenticationToken} 으로 토큰을 생성
      *
-     * @param authentication the authentication request object.(사용자가 입력한 id/password 등 인증에 필요한 정보가 넘어오는 인수)
-     *
      * {@link UsernamePasswordAuthenticationToken#UsernamePasswordAuthenticationToken(Object, Object)}
      *  : authorities(권한정보) null
      *  : principle(사용자정보), credential(패스워드) 만 정보가 저장됨.
@@ -36,33 +44,15 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
      *
      * {@link UsernamePasswordAuthenticationToken#UsernamePasswordAuthenticationToken(Object, Object, Collection)}
      *  : authorities(권한정보)
-     *  : principle(사용자정보), credential(패스워드)
+     *  : principle(사용자정보; {@link AccountPrincipal}), credential(패스워드)
      *  : setAuthenticated(true)
      *  : 최종적으로 인증에 성공한 이후에는, 해당 생성자에게 정보를 전달하면 된다.
      *  : 여기에서는 이 생성자를 사용해서 {@link AuthenticationProvider}(현재 이곳) 을 호출한 {@link AuthenticationManager} 에 값을 리턴한다.
-     *
-     * @return
-     * @throws AuthenticationException
      */
     @Override
-    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
-        String username = authentication.getName();
-        String password = (String) authentication.getCredentials();
-        AccountContext accountContext = (AccountContext) customUsersDetailsService.loadUserByUsername(username);
-
-        FormWebAuthenticationDetails details = (FormWebAuthenticationDetails) authentication.getDetails();
-        String secretKey = details.getSecretKey();
-
-        if (!passwordEncoder.matches(password, accountContext.getAccount().getPassword())) {
-            throw new BadCredentialsException("invalid password");
-        }
-
-        if (secretKey == null || !"secret".equals(secretKey)) {
-            throw new InsufficientAuthenticationException("InsufficientAuthenticationException");
-        }
-
+    protected Authentication createAuthentication(AccountContext accountContext, Object details) {
         return new UsernamePasswordAuthenticationToken(
-                accountContext.getAccount(),
+                accountContext.getPrincipal(),
                 null,
                 accountContext.getAuthorities());
     }
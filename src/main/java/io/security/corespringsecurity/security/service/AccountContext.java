@@ -1,6 +1,8 @@
 package io.security.corespringsecurity.security.service;
 
 import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,18 +10,80 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 
 /**
- * {@link UserDetails} implements {@link User} 클래스 상속한 클래스
+ * {@link UserDetails} 구현 클래스
+ *
+ * {@link Account} entity 는 보관하지 않고, 비밀번호 검증용 password 와 인증 객체에 담을 {@link AccountPrincipal} 만 갖는다.
+ * {@link User} 는 권한 목록을 매번 정렬된 Set 으로 복사하므로 상속하지 않고,
+ * {@link RoleAuthorities} 의 공유 권한 목록을 그대로 사용한다. (equals, hashCode 는 User 와 같이 username 기준)
  */
-public class AccountContext extends User {
+public class AccountContext implements UserDetails, CredentialsContainer {
 
-    private final Account account;
+    private final String username;
+    private String password;
+    private final AccountPrincipal principal;
 
     public AccountContext(Account account, Collection<? extends GrantedAuthority> authorities) {
-        super(account.getUsername(), account.getPassword(), authorities);
-        this.account = account;
+        this.username = account.getUsername();
+        this.password = account.getPassword();
+        this.principal = AccountPrincipal.of(account, authorities);
     }
 
-    public Account getAccount() {
-        return account;
+    public AccountPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof AccountContext && username.equals(((AccountContext) o).username);
+    }
+
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [Username=" + username + ", Authorities=" + getAuthorities() + "]";
     }
 }
@@ -0,0 +1,58 @@
+package io.security.corespringsecurity.security.service;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * 인증 객체(SecurityContext)에 저장하는 사용자 정보
+ *      : {@link Account} entity 대신 id, username, role, authorities 만 갖는 불변 객체 (password 없음)
+ *      : {@link AccountContext} 를 만들 때 한번 생성되고, AccountContext 와 함께 UserCache 에 캐시되므로 로그인마다 새로 만들지 않는다.
+ *      : {@link Serializable} ; session 외부 저장소(spring.session.store-type=jdbc) 에 그대로 저장된다.
+ *      : {@link AuthenticatedPrincipal} ; Authentication#getName() 이 username 을 반환한다.
+ *      : authorities 는 {@link RoleAuthorities} 의 공유 권한 목록을 사용하고, roleMask 는 생성시 한번만 계산한다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class AccountPrincipal implements AuthenticatedPrincipal, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String username;
+    private final String role;
+    private final Collection<GrantedAuthority> authorities;
+    @ToString.Exclude
+    private final transient long roleMask;
+
+    public AccountPrincipal(Long id, String username, String role, Collection<? extends GrantedAuthority> authorities) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.authorities = RoleAuthorities.canonical(authorities);
+        this.roleMask = RoleAuthorities.mask(this.authorities);
+    }
+
+    public static AccountPrincipal of(Account account, Collection<? extends GrantedAuthority> authorities) {
+        return new AccountPrincipal(account.getId(), account.getUsername(), account.getRole(), authorities);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    /**
+     * 역직렬화(session 외부 저장소)시 이 JVM 의 권한 bit 로 roleMask 를 다시 계산한다.
+     */
+    private Object readResolve() {
+        return new AccountPrincipal(id, username, role, authorities);
+    }
+}
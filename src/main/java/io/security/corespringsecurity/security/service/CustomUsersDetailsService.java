@@ -2,38 +2,49 @@ package io.security.corespringsecurity.security.service;
 
 import io.security.corespringsecurity.domain.Account;
 import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * 실제 DB 에 저장된 user 의 정보로 SecurityConfig 에 설정하는 Service
+ *
+ * {@link UserCache} 에 조회 결과가 있으면 DB 를 조회하지 않고 캐시된 {@link UserDetails} 를 반환한다.
+ * {@link UsernameBloomFilter} 에 없는 username 이면 DB 를 조회하지 않고 {@link UsernameNotFoundException} 을 던진다.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUsersDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final UsernameBloomFilter usernameBloomFilter;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cachedUser = userCache.getUserFromCache(username);
+        if (cachedUser != null) {
+            return cachedUser;
+        }
+
+        if (!usernameBloomFilter.mightContain(username)) {
+            throw new UsernameNotFoundException("UsernameNotFoundException");
+        }
+
         Account account = userRepository.findByUsername(username);
 
         if (account == null) {
             throw new UsernameNotFoundException("UsernameNotFoundException");
         }
 
-        List<GrantedAuthority> roles = new ArrayList<>();
-        roles.add(new SimpleGrantedAuthority(account.getRole()));
-
-        //UserDetails Impl
-        return new AccountContext(account, roles);
+        //UserDetails Impl ; 권한 목록은 권한마다 공유하는 불변 목록
+        AccountContext accountContext = new AccountContext(account, RoleAuthorities.authorities(account.getRole()));
+        userCache.putUserInCache(accountContext);
+        return accountContext;
     }
 
 }
@@ -0,0 +1,19 @@
+package io.security.corespringsecurity.security.throttle;
+
+/**
+ * 로그인 시도 카운터 저장소
+ *      : key 별로 현재 구간(window)과 직전 구간의 시도 횟수를 보관한다.
+ *      : 기본 구현은 서버 메모리({@link StripedLoginAttemptStore}),
+ *        여러 서버가 카운터를 공유해야 하면 공유 저장소(ex. Redis INCR + EXPIRE, DB)로 구현체를 교체한다.
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * key 의 window 구간 카운터를 1 증가시킨다.
+     *
+     * @param key
+     * @param window 구간 번호 (epoch millis / 구간 길이)
+     * @return [0] 증가된 window 구간 카운터, [1] window - 1 구간 카운터
+     */
+    long[] incrementAndGet(String key, long window);
+}
@@ -0,0 +1,62 @@
+package io.security.corespringsecurity.security.throttle;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * username, ip 별 로그인 시도 횟수 제한 (sliding window counter)
+ *
+ * 직전 구간 카운터에 현재 구간에서 지나지 않은 비율을 곱해서 더한 값을 최근 window 동안의 시도 횟수로 추정한다.
+ *      : 추정 횟수 = 직전 구간 횟수 * (1 - 현재 구간 경과 비율) + 현재 구간 횟수
+ *      : key 별로 카운터 2개만 보관 (시도 시각을 모두 보관하는 sliding log 보다 메모리가 적음)
+ *
+ * 제한을 넘은 시도도 카운트하므로, 계속 시도하면 계속 거부된다.
+ * limit 이 0 이하이면 해당 key 는 제한하지 않는다.
+ */
+public class LoginThrottle {
+
+    private static final String USERNAME_KEY_PREFIX = "username:";
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final LoginAttemptStore store;
+    private final int usernameLimit;
+    private final int ipLimit;
+    private final long windowMillis;
+    private final Clock clock;
+
+    public LoginThrottle(LoginAttemptStore store, int usernameLimit, int ipLimit, Duration window, Clock clock) {
+        this.store = store;
+        this.usernameLimit = usernameLimit;
+        this.ipLimit = ipLimit;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * @param username
+     * @param remoteAddress null 이면 ip 제한을 하지 않는다.
+     * @throws LoginThrottledException 제한을 넘은 경우
+     */
+    public void check(String username, String remoteAddress) throws LoginThrottledException {
+        long now = clock.millis();
+        if (remoteAddress != null) {
+            check(IP_KEY_PREFIX + remoteAddress, ipLimit, now);
+        }
+        if (username != null) {
+            check(USERNAME_KEY_PREFIX + username, usernameLimit, now);
+        }
+    }
+
+    private void check(String key, int limit, long now) {
+        if (limit <= 0) {
+            return;
+        }
+        long window = now / windowMillis;
+        long[] counts = store.incrementAndGet(key, window);
+        double remaining = 1.0 - (double) (now % windowMillis) / windowMillis;
+        if (counts[1] * remaining + counts[0] > limit) {
+            long retryAfterMillis = windowMillis - now % windowMillis;
+            throw new LoginThrottledException("Too many login attempts", Math.max(1, (retryAfterMillis + 999) / 1000));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.security.corespringsecurity.security.throttle;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 시도 횟수 제한을 넘은 경우 발생하는 예외
+ *      => 사용자 조회, 비밀번호 검증 없이 바로 429(Retry-After) 로 응답한다.
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
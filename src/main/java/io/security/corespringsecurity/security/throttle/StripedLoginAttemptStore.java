@@ -0,0 +1,85 @@
+package io.security.corespringsecurity.security.throttle;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 서버 메모리 {@link LoginAttemptStore}
+ *
+ * key 를 hash 로 stripe 에 나누고, stripe 별로 lock 을 잡는다.(전체 lock 경합 방지)
+ * 메모리 제한
+ *      : stripe 의 key 수가 maxKeysPerStripe 를 넘으면 지난 구간의 key 를 제거한다.
+ *      : 그래도 넘으면(짧은 시간에 매우 많은 key) stripe 를 비운다.(카운터가 초기화되지만 메모리는 제한됨)
+ */
+public class StripedLoginAttemptStore implements LoginAttemptStore {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int maxKeysPerStripe;
+
+    /**
+     * @param stripes 2의 거듭제곱으로 올림
+     * @param maxKeys 전체 최대 key 수
+     */
+    public StripedLoginAttemptStore(int stripes, int maxKeys) {
+        int size = Integer.highestOneBit(Math.max(stripes, 2) - 1) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.maxKeysPerStripe = Math.max(maxKeys / size, 1);
+    }
+
+    @Override
+    public long[] incrementAndGet(String key, long window) {
+        int hash = key.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & mask];
+        synchronized (stripe) {
+            Counter counter = stripe.counters.get(key);
+            if (counter == null) {
+                if (stripe.counters.size() >= maxKeysPerStripe) {
+                    stripe.evict(window, maxKeysPerStripe);
+                }
+                counter = new Counter();
+                stripe.counters.put(key, counter);
+            }
+            return counter.incrementAndGet(window);
+        }
+    }
+
+    private static final class Stripe {
+        private final Map<String, Counter> counters = new HashMap<>();
+
+        private void evict(long window, int maxKeys) {
+            Iterator<Counter> iterator = counters.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().window < window - 1) {
+                    iterator.remove();
+                }
+            }
+            if (counters.size() >= maxKeys) {
+                counters.clear();
+            }
+        }
+    }
+
+    private static final class Counter {
+        private long window;
+        private long current;
+        private long previous;
+
+        private long[] incrementAndGet(long now) {
+            if (now == window + 1) {
+                previous = current;
+                current = 0;
+            } else if (now != window) {
+                previous = 0;
+                current = 0;
+            }
+            window = now;
+            return new long[]{++current, previous};
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.security.corespringsecurity.security.token;
+
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextPersistenceFilter;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청 쿠키({@link SignedTokenService#TOKEN_COOKIE_NAME})의 서명 토큰을 검증해서 인증 객체를 SecurityContext 에 저장하는 필터
+ *      : stateless 모드에서 {@link SecurityContextPersistenceFilter} 가 세션에서 인증 객체를 읽어오는 역할을 대신한다.
+ *      : 토큰이 없거나 유효하지 않으면 인증 객체를 만들지 않는다.(익명 사용자로 처리)
+ */
+public class SignedTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private final SignedTokenService signedTokenService;
+
+    public SignedTokenAuthenticationFilter(SignedTokenService signedTokenService) {
+        this.signedTokenService = signedTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Cookie cookie = WebUtils.getCookie(request, SignedTokenService.TOKEN_COOKIE_NAME);
+        if (cookie != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AccountPrincipal principal = signedTokenService.verify(cookie.getValue());
+            if (principal != null) {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        principal.getAuthorities()));
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,36 @@
+package io.security.corespringsecurity.security.token;
+
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * stateless 모드에서 인증 성공시 서명 토큰을 쿠키로 발급한 뒤, 기존 성공 handler 를 호출한다.
+ */
+public class SignedTokenAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final SignedTokenService signedTokenService;
+    private final AuthenticationSuccessHandler delegate;
+
+    public SignedTokenAuthenticationSuccessHandler(SignedTokenService signedTokenService, AuthenticationSuccessHandler delegate) {
+        this.signedTokenService = signedTokenService;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
+        Cookie cookie = new Cookie(SignedTokenService.TOKEN_COOKIE_NAME, signedTokenService.issue((AccountPrincipal) authentication.getPrincipal()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge((int) signedTokenService.getExpiry().getSeconds());
+        response.addCookie(cookie);
+        delegate.onAuthenticationSuccess(request, response, authentication);
+    }
+}
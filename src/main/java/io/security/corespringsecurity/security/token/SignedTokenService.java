@@ -0,0 +1,114 @@
+package io.security.corespringsecurity.security.token;
+
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256 으로 서명한 인증 토큰을 발급/검증
+ *
+ * 토큰 포맷
+ *      : base64url(payload) + "." + base64url(HMAC-SHA256(payload))
+ *      : payload = id:expiresAt(epoch seconds):base64url(role):base64url(username)
+ *      : role, username 은 ":" 를 포함할 수 있으므로 base64url 로 인코딩해 구분자와 섞이지 않게 한다.
+ *        (인코딩하지 않으면 role 이 "ROLE_USER:99999999999:x" 인 계정이 만료시간을 조작한 토큰을 발급받을 수 있다.)
+ *
+ * 토큰 검증은 서명과 만료시간만 확인하므로 DB 조회나 세션이 필요 없다.
+ *      => 같은 secret 을 사용하는 모든 서버에서 검증 가능(세션 복제, sticky session 불필요)
+ *      => 발급한 토큰을 서버에서 강제로 만료시킬 수 없으므로 만료시간(expiry)을 짧게 유지한다.
+ */
+public class SignedTokenService {
+
+    public static final String TOKEN_COOKIE_NAME = "AUTH_TOKEN";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String DELIMITER = ":";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec secretKey;
+    private final Duration expiry;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    public SignedTokenService(byte[] secret, Duration expiry, Clock clock) {
+        this.secretKey = new SecretKeySpec(secret, ALGORITHM);
+        this.expiry = expiry;
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    public String issue(AccountPrincipal principal) {
+        long expiresAt = clock.instant().plus(expiry).getEpochSecond();
+        String payload = principal.getId() + DELIMITER + expiresAt + DELIMITER + encode(principal.getRole()) + DELIMITER + encode(principal.getUsername());
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * @param token
+     * @return 서명이 올바르고 만료되지 않은 토큰이면 토큰에 담긴 id, username, role 로 만든 {@link AccountPrincipal}, 아니면 null
+     */
+    public AccountPrincipal verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        try {
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+                return null;
+            }
+            String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split(DELIMITER, -1);
+            if (fields.length != 4 || Long.parseLong(fields[1]) < clock.instant().getEpochSecond()) {
+                return null;
+            }
+            String role = decode(fields[2]);
+            return new AccountPrincipal(
+                    Long.valueOf(fields[0]),
+                    decode(fields[3]),
+                    role,
+                    RoleAuthorities.authorities(role));
+        } catch (IllegalArgumentException e) {//base64, number 포맷 오류
+            return null;
+        }
+    }
+
+    public Duration getExpiry() {
+        return expiry;
+    }
+
+    private static String encode(String field) {
+        return ENCODER.encodeToString(field.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String field) {
+        return new String(DECODER.decode(field), StandardCharsets.UTF_8);
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.security.corespringsecurity.security.voter;
+
+import io.security.corespringsecurity.security.metadatasource.UrlAccessAttribute;
+import org.springframework.security.access.AccessDecisionVoter;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.FilterInvocation;
+
+import java.util.Collection;
+
+/**
+ * {@link UrlAccessAttribute} 를 판단하는 voter
+ *      : 접근 조건을 만족하면 ACCESS_GRANTED, 아니면 ACCESS_DENIED
+ *      : {@link UrlAccessAttribute} 가 아닌 속성은 ACCESS_ABSTAIN
+ */
+public class UrlAccessVoter implements AccessDecisionVoter<FilterInvocation> {
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    @Override
+    public boolean supports(ConfigAttribute attribute) {
+        return attribute instanceof UrlAccessAttribute;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return FilterInvocation.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public int vote(Authentication authentication, FilterInvocation object, Collection<ConfigAttribute> attributes) {
+        int result = ACCESS_ABSTAIN;
+        for (ConfigAttribute attribute : attributes) {
+            if (!supports(attribute)) {
+                continue;
+            }
+            if (((UrlAccessAttribute) attribute).isGranted(authentication, trustResolver)) {
+                return ACCESS_GRANTED;
+            }
+            result = ACCESS_DENIED;
+        }
+        return result;
+    }
+}
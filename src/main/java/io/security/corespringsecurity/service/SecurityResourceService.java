@@ -0,0 +1,23 @@
+package io.security.corespringsecurity.service;
+
+import io.security.corespringsecurity.domain.Resources;
+import io.security.corespringsecurity.security.metadatasource.UrlAuthorizationIndex;
+
+/**
+ * url 자원({@link Resources})과 권한 정보를 조회
+ */
+public interface SecurityResourceService {
+
+    /**
+     * DB 에 등록된 자원으로 {@link UrlAuthorizationIndex} 를 생성한다.
+     * 등록된 자원이 없으면 기본 자원으로 생성한다.
+     *
+     * @return
+     */
+    UrlAuthorizationIndex getUrlAuthorizationIndex();
+
+    /**
+     * DB 에 등록된 자원이 없으면 기본 권한과 자원을 등록한다.
+     */
+    void saveDefaultResourcesIfEmpty();
+}
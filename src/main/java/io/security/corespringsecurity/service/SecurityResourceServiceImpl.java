@@ -0,0 +1,110 @@
+package io.security.corespringsecurity.service;
+
+import io.security.corespringsecurity.domain.Resources;
+import io.security.corespringsecurity.domain.Role;
+import io.security.corespringsecurity.repository.ResourcesRepository;
+import io.security.corespringsecurity.repository.RoleRepository;
+import io.security.corespringsecurity.security.authority.RoleAuthorities;
+import io.security.corespringsecurity.security.metadatasource.UrlAccessAttribute;
+import io.security.corespringsecurity.security.metadatasource.UrlAuthorizationIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.security.corespringsecurity.constants.RoleConstant.*;
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+
+@Service("securityResourceService")
+@RequiredArgsConstructor
+public class SecurityResourceServiceImpl implements SecurityResourceService {
+
+    private final ResourcesRepository resourcesRepository;
+    private final RoleRepository roleRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UrlAuthorizationIndex getUrlAuthorizationIndex() {
+        //저장된 권한만 bit 를 부여받는다. (회원 정보의 role 문자열로는 등록되지 않음)
+        for (Role role : roleRepository.findAll()) {
+            RoleAuthorities.register(role.getRoleName());
+        }
+
+        List<Resources> resources = resourcesRepository.findAllResources();
+        if (resources.isEmpty()) {
+            resources = defaultResources(defaultRoles());
+        }
+
+        UrlAuthorizationIndex.Builder builder = UrlAuthorizationIndex.builder();
+        for (Resources resource : resources) {
+            if (resource.isPermitAll()) {
+                builder.permitAll(resource.getResourceName());
+            } else if (resource.getRoleSet().isEmpty()) {
+                builder.authenticated(resource.getResourceName());
+            } else {
+                builder.hasAnyRole(resource.getResourceName(), resource.getRoleSet()
+                        .stream()
+                        .map(Role::getRoleName)
+                        .sorted()
+                        .toArray(String[]::new));
+            }
+        }
+        return builder.anyRequest(UrlAccessAttribute.AUTHENTICATED).build();
+    }
+
+    @Override
+    @Transactional
+    public void saveDefaultResourcesIfEmpty() {
+        if (resourcesRepository.count() > 0) {
+            return;
+        }
+        Map<String, Role> roles = defaultRoles();
+        for (Map.Entry<String, Role> entry : roles.entrySet()) {
+            Role role = roleRepository.findByRoleName(entry.getKey());
+            entry.setValue(role != null ? role : roleRepository.save(entry.getValue()));
+        }
+        resourcesRepository.saveAll(defaultResources(roles));
+    }
+
+    private static Map<String, Role> defaultRoles() {
+        Map<String, Role> roles = new LinkedHashMap<>();
+        for (String role : Arrays.asList(USER_ROLE, MANAGER_ROLE, ADMIN_ROLE)) {
+            String roleName = UrlAccessAttribute.ROLE_PREFIX + role;
+            roles.put(roleName, Role.builder().roleName(roleName).roleDesc(role).build());
+        }
+        return roles;
+    }
+
+    /**
+     * 기본 자원 (DB 에 자원이 없을 때 사용)
+     */
+    private static List<Resources> defaultResources(Map<String, Role> roles) {
+        List<Resources> resources = new ArrayList<>();
+        for (String url : Arrays.asList(ROOT_URL, USERS_URL, "user/login/**", LOGIN_URL, LOGIN_PROC_URL, DENIED_URL, HEALTH_URL)) {
+            resources.add(Resources.builder().resourceName(url).orderNum(resources.size()).permitAll(true).build());
+        }
+        resources.add(roleResource(MYPAGE_URL, resources.size(), roles.get(UrlAccessAttribute.ROLE_PREFIX + USER_ROLE)));
+        resources.add(roleResource(MESSAGES_URL, resources.size(), roles.get(UrlAccessAttribute.ROLE_PREFIX + MANAGER_ROLE)));
+        resources.add(roleResource(CONFIG_URL + "/**", resources.size(), roles.get(UrlAccessAttribute.ROLE_PREFIX + ADMIN_ROLE)));
+        //경로 그대로 등록하면 "/users/bulk/" 처럼 끝에 '/' 를 붙인 요청이 일치하지 않아 인증만으로 접근되므로 하위 경로까지 보호
+        resources.add(roleResource(USERS_BULK_URL + "/**", resources.size(), roles.get(UrlAccessAttribute.ROLE_PREFIX + ADMIN_ROLE)));
+        resources.add(roleResource(FILTER_TIMINGS_URL + "/**", resources.size(), roles.get(UrlAccessAttribute.ROLE_PREFIX + ADMIN_ROLE)));
+        //로그인 단계별 시간, 캐시 적중률 등 내부 지표가 노출되므로 ADMIN 만 조회
+        resources.add(roleResource(PROMETHEUS_URL + "/**", resources.size(), roles.get(UrlAccessAttribute.ROLE_PREFIX + ADMIN_ROLE)));
+        return resources;
+    }
+
+    private static Resources roleResource(String url, int orderNum, Role role) {
+        return Resources.builder()
+                .resourceName(url)
+                .orderNum(orderNum)
+                .roleSet(new HashSet<>(Arrays.asList(role)))
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package io.security.corespringsecurity.service;
+
+import io.security.corespringsecurity.domain.BulkImportResult;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 회원 일괄 등록
+ *      : 입력은 한 행씩 읽어서 chunk 단위로 저장하므로, 파일 전체를 메모리에 올리지 않는다.
+ *      : 잘못된 행은 건너뛰고 {@link BulkImportResult#getErrors()} 에 행 번호와 사유를 남긴다.
+ */
+public interface UserBulkImportService {
+
+    MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    MediaType APPLICATION_NDJSON = MediaType.valueOf("application/x-ndjson");
+
+    /**
+     * @param in 입력(UTF-8)
+     *           : CSV ; 첫 행은 header(username,password,email,age,role)
+     *           : NDJSON ; 한 행에 AccountDto 하나
+     */
+    BulkImportResult importUsers(InputStream in, Format format) throws IOException;
+
+    enum Format {
+        CSV, NDJSON;
+
+        public static Format of(MediaType contentType) {
+            return TEXT_CSV.isCompatibleWith(contentType) ? CSV : NDJSON;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package io.security.corespringsecurity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.domain.AccountDto;
+import io.security.corespringsecurity.domain.BulkImportResult;
+import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 등록
+ *
+ * chunkSize 행 단위로
+ *      1. username/password 누락, 파일 내 중복, DB 에 이미 있는 username 행은 실패 처리
+ *      2. password 는 hashPool(ForkJoinPool) 에서 병렬로 encode ; 로그인 검증 스레드와 CPU 를 나눠 쓰도록 기본값은 코어 수의 절반
+ *      3. 하나의 트랜잭션에서 saveAll ; hibernate.jdbc.batch_size + account_seq(allocationSize 50) 로 insert 를 batch 로 보낸다.
+ */
+@Service("userBulkImportService")
+public class UserBulkImportServiceImpl implements UserBulkImportService, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UserBulkImportServiceImpl.class);
+
+    private static final String[] CSV_COLUMNS = {"username", "password", "email", "age", "role"};
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final UsernameBloomFilter usernameBloomFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool hashPool;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public UserBulkImportServiceImpl(UserRepository userRepository,
+                                     PasswordEncoder passwordEncoder,
+                                     UserCache userCache,
+                                     UsernameBloomFilter usernameBloomFilter,
+                                     TransactionTemplate transactionTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${security.bulk-import.hash-parallelism:0}") int hashParallelism,
+                                     @Value("${security.bulk-import.chunk-size:500}") int chunkSize,
+                                     @Value("${security.bulk-import.max-errors:1000}") int maxErrors) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.usernameBloomFilter = usernameBloomFilter;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.hashPool = new ForkJoinPool(hashParallelism > 0
+                ? hashParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public BulkImportResult importUsers(InputStream in, Format format) throws IOException {
+        BulkImportResult result = new BulkImportResult(maxErrors);
+        Set<String> usernames = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            RowReader rowReader = format == Format.CSV ? new CsvRowReader(reader) : new NdjsonRowReader(reader, objectMapper);
+            Row row;
+            while ((row = rowReader.next()) != null) {
+                String error = row.error != null ? row.error : validate(row.account);
+                if (error == null && !usernames.add(row.account.getUsername())) {
+                    error = "duplicate username in input";
+                }
+                if (error != null) {
+                    result.failed(row.line, row.account != null ? row.account.getUsername() : null, error);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        log.info("bulk import finished: processed={}, imported={}, failed={}", result.getProcessed(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private void importChunk(List<Row> chunk, BulkImportResult result) {
+        Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(chunk.stream()
+                .map(row -> row.account.getUsername())
+                .collect(Collectors.toList())));
+
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.account.getUsername())) {
+                result.failed(row.line, row.account.getUsername(), "username already exists");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        //parallelStream 을 hashPool 의 task 안에서 실행하면 common pool 이 아닌 hashPool 에서 병렬 처리된다.
+        List<Account> accounts = hashPool.submit(() -> rows.parallelStream()
+                .map(row -> toAccount(row.account))
+                .collect(Collectors.toList()))
+                .join();
+
+        //insert 전에 username filter 에 추가 ; 실패(rollback)해도 오탐(DB 조회)만 늘어난다.
+        for (Account account : accounts) {
+            usernameBloomFilter.put(account.getUsername());
+        }
+        try {
+            transactionTemplate.execute(status -> userRepository.saveAll(accounts));
+        } catch (DataAccessException e) {
+            log.warn("bulk import chunk failed: lines {}-{}", rows.get(0).line, rows.get(rows.size() - 1).line, e);
+            for (Row row : rows) {
+                result.failed(row.line, row.account.getUsername(), "insert failed: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+
+        for (Account account : accounts) {
+            userCache.removeUserFromCache(account.getUsername());
+        }
+        result.imported(accounts.size());
+        log.info("bulk import progress: processed={}, imported={}, failed={}", result.getProcessed(), result.getImported(), result.getFailed());
+    }
+
+    private static String validate(AccountDto account) {
+        if (!StringUtils.hasText(account.getUsername())) {
+            return "username is required";
+        }
+        if (!StringUtils.hasText(account.getPassword())) {
+            return "password is required";
+        }
+        return null;
+    }
+
+    private Account toAccount(AccountDto accountDto) {
+        return Account.builder()
+                .username(accountDto.getUsername())
+                .password(passwordEncoder.encode(accountDto.getPassword()))
+                .email(accountDto.getEmail())
+                .age(accountDto.getAge())
+                .role(accountDto.getRole())
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdown();
+    }
+
+    private static class Row {
+        final long line;
+        final AccountDto account;
+        final String error;
+
+        Row(long line, AccountDto account, String error) {
+            this.line = line;
+            this.account = account;
+            this.error = error;
+        }
+    }
+
+    private interface RowReader {
+        /**
+         * @return 다음 행, 입력이 끝나면 null (빈 행은 건너뜀)
+         */
+        Row next() throws IOException;
+    }
+
+    private static class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+        private long line;
+
+        NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    return new Row(line, objectMapper.readValue(text, AccountDto.class), null);
+                } catch (IOException e) {
+                    return new Row(line, null, "invalid json");
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 큰따옴표로 감싼 값("a,b", "a""b")을 지원하는 CSV reader (값 안의 줄바꿈은 지원하지 않음)
+     */
+    private static class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private int[] columnIndexes;
+        private long line;
+
+        CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.trim().isEmpty()) {
+                    continue;
+                }
+                List<String> values = split(text);
+                if (columnIndexes == null) {
+                    columnIndexes = header(values);
+                    continue;
+                }
+                String[] columns = new String[CSV_COLUMNS.length];
+                for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                    int index = columnIndexes[i];
+                    columns[i] = index >= 0 && index < values.size() ? values.get(index) : null;
+                }
+                return new Row(line, AccountDto.builder()
+                        .username(columns[0])
+                        .password(columns[1])
+                        .email(columns[2])
+                        .age(columns[3])
+                        .role(columns[4])
+                        .build(), null);
+            }
+            return null;
+        }
+
+        private static int[] header(List<String> values) {
+            int[] indexes = new int[CSV_COLUMNS.length];
+            for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                indexes[i] = -1;
+                for (int j = 0; j < values.size(); j++) {
+                    if (CSV_COLUMNS[i].equalsIgnoreCase(values.get(j).trim())) {
+                        indexes[i] = j;
+                    }
+                }
+            }
+            return indexes;
+        }
+
+        private static List<String> split(String text) {
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package io.security.corespringsecurity.service;
 
 import io.security.corespringsecurity.domain.Account;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.stereotype.Service;
 
+/**
+ * 계정 정보를 변경하는 메서드는 {@link UserCache#removeUserFromCache(String)} 로 캐시된 사용자 정보를 비워야 한다.
+ */
 public interface UserService {
     void createUser(Account account);
+
+    void updatePassword(String username, String encodedPassword);
 }
@@ -2,7 +2,9 @@ package io.security.corespringsecurity.service;
 
 import io.security.corespringsecurity.domain.Account;
 import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,10 +13,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final UsernameBloomFilter usernameBloomFilter;
 
     @Override
     @Transactional
     public void createUser(Account account) {
+        //insert 전에 추가 ; rollback 되어도 오탐(DB 조회)만 늘어난다.
+        usernameBloomFilter.put(account.getUsername());
         userRepository.save(account);
+        userCache.removeUserFromCache(account.getUsername());
+    }
+
+    @Override
+    @Transactional
+    public void updatePassword(String username, String encodedPassword) {
+        Account account = userRepository.findByUsername(username);
+        if (account == null) {
+            return;
+        }
+        account.setPassword(encodedPassword);
+        userCache.removeUserFromCache(username);
     }
 }
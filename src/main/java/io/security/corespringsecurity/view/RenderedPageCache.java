@@ -0,0 +1,225 @@
+package io.security.corespringsecurity.view;
+
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.unbescape.html.HtmlEscape;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 렌더링한 page 를 byte 조각으로 보관하고, 요청마다 값이 바뀌는 부분(slot)만 채워서 응답한다.
+ *      : 처음 요청시 slot 자리에 표식(marker)을 넣어 template 을 렌더링하고, 표식 기준으로 잘라서 보관한다.
+ *      : 이후 요청은 template 평가 없이 보관한 조각과 slot 값(th:text 와 같은 escape)을 이어서 쓴다.
+ *      : csrf token(form 의 hidden input) 은 항상 slot 이다.
+ *
+ * page 별로 등록한 model 속성(slot)과 요청 parameter(flag) 만 요청마다 달라질 수 있다.
+ *      : slot 은 th:text 로 출력만 하고, th:if 등 조건에 사용하지 않아야 한다.
+ *      : flag 는 없거나 "true" 인 경우만 보관한다. (th:if="${param.error}" 등, 다른 값은 매번 렌더링)
+ *      : sec:authorize 는 익명 여부(isAnonymous, isAuthenticated)만 사용해야 한다. (익명/인증 사용자별로 따로 보관)
+ *
+ * session id 를 url 에 붙여야 하는 요청(jsessionid, 쿠키 미사용)은 보관하지도, 보관한 page 로 응답하지도 않는다.
+ */
+public class RenderedPageCache {
+
+    private static final String FLAG_VALUE = "true";
+
+    private final Map<String, Page> pages = new HashMap<>();
+    private final ConcurrentMap<String, RenderedPage> renderedPages = new ConcurrentHashMap<>();
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    /**
+     * @param templateName view 이름 (ex. user/login/login)
+     * @param slots 요청마다 바뀌는 model 속성 이름
+     * @param flags 없거나 "true" 인 요청 parameter 이름
+     */
+    public RenderedPageCache page(String templateName, List<String> slots, List<String> flags) {
+        pages.put(templateName, new Page(slots, flags));
+        return this;
+    }
+
+    /**
+     * @return 보관한 page 수 (page, flag, 익명 여부 조합 별 1개)
+     */
+    public int size() {
+        return renderedPages.size();
+    }
+
+    /**
+     * @param renderer template 렌더링 (보관한 page 가 없는 경우)
+     * @return false 이면 보관 대상이 아닌 요청 ; renderer 로 직접 렌더링해야 한다.
+     */
+    public boolean render(String templateName, Map<String, ?> model, HttpServletRequest request, HttpServletResponse response,
+                          Renderer renderer) throws Exception {
+        Page page = pages.get(templateName);
+        if (page == null || !response.encodeURL("/").equals("/")) {
+            return false;
+        }
+        String key = key(templateName, page, request);
+        if (key == null) {
+            return false;
+        }
+
+        CsrfToken csrfToken = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        RenderedPage renderedPage = renderedPages.get(key);
+        if (renderedPage == null) {
+            renderedPage = renderWithMarkers(page, model, request, response, csrfToken, renderer);
+            renderedPages.putIfAbsent(key, renderedPage);
+        }
+
+        List<String> values = new ArrayList<>(page.slots.size() + 1);
+        for (String slot : page.slots) {
+            Object value = model == null ? null : model.get(slot);
+            values.add(value == null ? "" : HtmlEscape.escapeHtml4Xml(value.toString()));
+        }
+        //LazyCsrfTokenRepository ; token 값을 읽어야 쿠키에 저장된다.
+        values.add(csrfToken == null ? "" : HtmlEscape.escapeHtml4Xml(csrfToken.getToken()));
+        renderedPage.write(response, values);
+        return true;
+    }
+
+    private String key(String templateName, Page page, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(templateName);
+        for (String flag : page.flags) {
+            String value = request.getParameter(flag);
+            if (value != null && !FLAG_VALUE.equals(value)) {
+                return null;
+            }
+            key.append('|').append(value != null);
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return key.append('|').append(authentication == null || trustResolver.isAnonymous(authentication)).toString();
+    }
+
+    private RenderedPage renderWithMarkers(Page page, Map<String, ?> model, HttpServletRequest request, HttpServletResponse response,
+                                           CsrfToken csrfToken, Renderer renderer) throws Exception {
+        String markerPrefix = "slot" + UUID.randomUUID().toString().replace("-", "");
+        List<String> markers = new ArrayList<>(page.slots.size() + 1);
+        Map<String, Object> markerModel = model == null ? new HashMap<>() : new HashMap<>(model);
+        for (String slot : page.slots) {
+            String marker = markerPrefix + markers.size();
+            markers.add(marker);
+            markerModel.put(slot, marker);
+        }
+        String csrfMarker = markerPrefix + markers.size();
+        markers.add(csrfMarker);
+
+        HttpServletRequest markerRequest = csrfToken == null ? request
+                : new CsrfMarkerRequest(request, new DefaultCsrfToken(csrfToken.getHeaderName(), csrfToken.getParameterName(), csrfMarker));
+        ContentCachingResponseWrapper buffer = new ContentCachingResponseWrapper(response);
+        renderer.render(markerModel, markerRequest, buffer);
+
+        Charset charset = buffer.getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8
+                : Charset.forName(buffer.getCharacterEncoding());
+        String html = new String(buffer.getContentAsByteArray(), charset);
+        return RenderedPage.split(html, markers, charset, buffer.getContentType());
+    }
+
+    @FunctionalInterface
+    public interface Renderer {
+        void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception;
+    }
+
+    private static class Page {
+        private final List<String> slots;
+        private final List<String> flags;
+
+        private Page(List<String> slots, List<String> flags) {
+            this.slots = Collections.unmodifiableList(new ArrayList<>(slots));
+            this.flags = Collections.unmodifiableList(new ArrayList<>(flags));
+        }
+    }
+
+    /**
+     * 표식 사이의 고정 조각(segments)과 조각 사이에 쓸 slot 순서(slotIndexes)
+     *      : segments.length == slotIndexes.length + 1
+     */
+    static class RenderedPage {
+        private final byte[][] segments;
+        private final int[] slotIndexes;
+        private final Charset charset;
+        private final String contentType;
+
+        private RenderedPage(byte[][] segments, int[] slotIndexes, Charset charset, String contentType) {
+            this.segments = segments;
+            this.slotIndexes = slotIndexes;
+            this.charset = charset;
+            this.contentType = contentType;
+        }
+
+        static RenderedPage split(String html, List<String> markers, Charset charset, String contentType) {
+            List<byte[]> segments = new ArrayList<>();
+            List<Integer> slotIndexes = new ArrayList<>();
+            int from = 0;
+            while (true) {
+                int next = -1;
+                int slot = -1;
+                for (int i = 0; i < markers.size(); i++) {
+                    int index = html.indexOf(markers.get(i), from);
+                    if (index >= 0 && (next < 0 || index < next)) {
+                        next = index;
+                        slot = i;
+                    }
+                }
+                if (next < 0) {
+                    break;
+                }
+                segments.add(html.substring(from, next).getBytes(charset));
+                slotIndexes.add(slot);
+                from = next + markers.get(slot).length();
+            }
+            segments.add(html.substring(from).getBytes(charset));
+            return new RenderedPage(segments.toArray(new byte[0][]),
+                    slotIndexes.stream().mapToInt(Integer::intValue).toArray(),
+                    charset,
+                    contentType);
+        }
+
+        void write(HttpServletResponse response, List<String> values) throws IOException {
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            OutputStream out = response.getOutputStream();
+            for (int i = 0; i < slotIndexes.length; i++) {
+                out.write(segments[i]);
+                out.write(values.get(slotIndexes[i]).getBytes(charset));
+            }
+            out.write(segments[segments.length - 1]);
+            out.flush();
+        }
+    }
+
+    /**
+     * 렌더링하는 동안 csrf token 대신 표식을 반환 (CsrfRequestDataValueProcessor 가 form 에 추가하는 hidden input)
+     */
+    private static class CsrfMarkerRequest extends HttpServletRequestWrapper {
+        private final CsrfToken markerToken;
+
+        private CsrfMarkerRequest(HttpServletRequest request, CsrfToken markerToken) {
+            super(request);
+            this.markerToken = markerToken;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            if (CsrfToken.class.getName().equals(name) || markerToken.getParameterName().equals(name)) {
+                return markerToken;
+            }
+            return super.getAttribute(name);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.security.corespringsecurity.view;
+
+import org.thymeleaf.spring5.view.ThymeleafView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * {@link RenderedPageCache} 에 등록한 template 은 보관한 page 로 응답하는 {@link ThymeleafView}
+ *      : ThymeleafViewResolver 의 viewClass 로 설정 (ViewConfig)
+ */
+public class RenderedPageCachingView extends ThymeleafView {
+
+    private RenderedPageCache renderedPageCache;
+
+    @Override
+    public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (renderedPageCache == null) {
+            renderedPageCache = getApplicationContext().getBean(RenderedPageCache.class);
+        }
+        if (!renderedPageCache.render(getTemplateName(), model, request, response, super::render)) {
+            super.render(model, request, response);
+        }
+    }
+}
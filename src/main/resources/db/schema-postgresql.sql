@@ -0,0 +1,82 @@
+-- 운영(prod) profile schema (PostgreSQL)
+--      : prod 는 spring.jpa.hibernate.ddl-auto=validate, spring.session.jdbc.initialize-schema=never 이므로
+--        서버 배포 전에 이 script 로 table 을 만들어 두어야 서버가 시작된다.
+--      : entity(domain 패키지)를 변경하면 이 script 도 함께 변경한다.
+--      : classpath root 가 아닌 db/ 에 두어 spring boot 가 자동으로 실행하지 않는다.
+
+-- Account ; 일괄 등록시 50 개씩 할당(allocationSize = 50)
+create sequence account_seq start 1 increment 50;
+-- Resources, Role (@GeneratedValue)
+create sequence hibernate_sequence start 1 increment 1;
+
+create table account (
+    id       int8         not null,
+    age      varchar(255),
+    email    varchar(255),
+    password varchar(255),
+    role     varchar(255),
+    username varchar(255) not null,
+    primary key (id)
+);
+-- @NaturalId username ; 로그인 조회 index
+alter table account add constraint uk_account_username unique (username);
+
+-- 로그인 시도 기록 (JdbcLoginAuditWriter 가 batch insert)
+create table login_audit (
+    id             bigserial not null,
+    created_at     timestamp,
+    exception_type varchar(255),
+    outcome        varchar(255),
+    remote_address varchar(255),
+    username       varchar(255),
+    primary key (id)
+);
+create index idx_login_audit_username on login_audit (username);
+
+create table resources (
+    id            int8    not null,
+    order_num     int4    not null,
+    permit_all    boolean not null,
+    resource_name varchar(255),
+    primary key (id)
+);
+
+create table role (
+    id        int8 not null,
+    role_desc varchar(255),
+    role_name varchar(255),
+    primary key (id)
+);
+alter table role add constraint uk_role_role_name unique (role_name);
+
+create table role_resources (
+    resource_id int8 not null,
+    role_id     int8 not null,
+    primary key (resource_id, role_id)
+);
+alter table role_resources add constraint fk_role_resources_role foreign key (role_id) references role;
+alter table role_resources add constraint fk_role_resources_resources foreign key (resource_id) references resources;
+
+-- Spring Session (spring.session.store-type=jdbc 인 경우)
+--      : spring-session-jdbc 의 org/springframework/session/jdbc/schema-postgresql.sql 과 같음
+create table spring_session (
+    primary_id            char(36) not null,
+    session_id            char(36) not null,
+    creation_time         bigint   not null,
+    last_access_time      bigint   not null,
+    max_inactive_interval int      not null,
+    expiry_time           bigint   not null,
+    principal_name        varchar(100),
+    constraint spring_session_pk primary key (primary_id)
+);
+create unique index spring_session_ix1 on spring_session (session_id);
+create index spring_session_ix2 on spring_session (expiry_time);
+create index spring_session_ix3 on spring_session (principal_name);
+
+create table spring_session_attributes (
+    session_primary_id char(36)     not null,
+    attribute_name     varchar(200) not null,
+    attribute_bytes    bytea        not null,
+    constraint spring_session_attributes_pk primary key (session_primary_id, attribute_name),
+    constraint spring_session_attributes_fk foreign key (session_primary_id) references spring_session (primary_id) on delete cascade
+);
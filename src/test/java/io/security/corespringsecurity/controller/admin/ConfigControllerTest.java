@@ -1,6 +1,10 @@
 package io.security.corespringsecurity.controller.admin;
 
+import io.security.corespringsecurity.domain.Resources;
+import io.security.corespringsecurity.repository.ResourcesRepository;
+import io.security.corespringsecurity.security.metadatasource.UrlFilterInvocationSecurityMetadataSource;
 import io.security.corespringsecurity.test.TestConfig;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +16,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.Collections;
+
 import static io.security.corespringsecurity.constants.TestDataConstants.REDIRECTED_LOGIN_URL;
 import static io.security.corespringsecurity.constants.UrlConstant.CONFIG_URL;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.anonymous;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -24,9 +34,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class ConfigControllerTest {
 
     public static final String ADMIN_CONFIG_URL = "admin/config";
+    public static final String CONFIG_RELOAD_URL = "/config/reload";
     @Autowired
     WebApplicationContext context;
 
+    @Autowired
+    ResourcesRepository resourcesRepository;
+
+    @Autowired
+    UrlFilterInvocationSecurityMetadataSource urlFilterInvocationSecurityMetadataSource;
+
     MockMvc mvc;
 
     @BeforeEach
@@ -36,6 +53,12 @@ class ConfigControllerTest {
                 .build();
     }
 
+    @AfterEach
+    void tearDown() {
+        given(resourcesRepository.findAllResources()).willReturn(Collections.emptyList());
+        urlFilterInvocationSecurityMetadataSource.reload();//기본 자원으로 복구
+    }
+
     @Test
     @DisplayName("권한없이 /config 호출시 /login 으로 redirect 한다.")
     void configAccessFailTest() throws Exception {
@@ -56,4 +79,31 @@ class ConfigControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(view().name(ADMIN_CONFIG_URL));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("admin user 가 /config/reload 호출시 DB 의 자원/권한 정보를 다시 읽어서 바로 반영한다.")
+    @WithMockUser(username = "admin", password = "1111", roles = "ADMIN")
+    void reloadTest() throws Exception {
+        //given
+        given(resourcesRepository.findAllResources()).willReturn(Collections.singletonList(
+                Resources.builder().resourceName(CONFIG_URL).permitAll(true).build()));
+
+        //when
+        mvc.perform(post(CONFIG_RELOAD_URL).with(csrf()))
+                .andDo(print())
+                //then
+                .andExpect(redirectedUrl(CONFIG_URL));
+        mvc.perform(get(CONFIG_URL).with(anonymous()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("admin 권한이 없는 user 는 /config/reload 를 호출할 수 없다.")
+    @WithMockUser(username = "user", password = "1111", roles = "USER")
+    void reloadAccessFailTest() throws Exception {
+        //when
+        mvc.perform(post(CONFIG_RELOAD_URL).with(csrf()))
+                //then
+                .andExpect(redirectedUrl("/denied?exception=Access is denied"));
+    }
+}
@@ -1,6 +1,8 @@
 package io.security.corespringsecurity.controller.user;
 
 import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.domain.BulkImportResult;
+import io.security.corespringsecurity.service.UserBulkImportService;
 import io.security.corespringsecurity.service.UserService;
 import io.security.corespringsecurity.test.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +21,12 @@ import org.springframework.web.context.WebApplicationContext;
 
 import static io.security.corespringsecurity.constants.TestDataConstants.REDIRECTED_LOGIN_URL;
 import static io.security.corespringsecurity.constants.TestDataConstants.getAdmin;
+import static io.security.corespringsecurity.constants.UrlConstant.DENIED_URL;
 import static io.security.corespringsecurity.constants.UrlConstant.MYPAGE_URL;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -42,6 +49,9 @@ class UserControllerTest {
     @MockBean
     UserService service;
 
+    @Autowired
+    UserBulkImportService userBulkImportService;
+
     MockMvc mvc;
 
     Account admin;
@@ -105,4 +115,60 @@ class UserControllerTest {
                 .andExpect(redirectedUrl("/"));
         verify(service, times(1)).createUser(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("ADMIN 권한으로 POST /users/bulk 호출시 회원 일괄 등록 결과를 json 으로 응답한다.")
+    @WithMockUser(username = "admin", password = "1111", roles = "ADMIN")
+    void createUsersBulkTest() throws Exception {
+        //given
+        BulkImportResult result = new BulkImportResult(10);
+        result.imported(1);
+        result.failed(3, "user", "username already exists");
+        given(userBulkImportService.importUsers(any(), eq(UserBulkImportService.Format.CSV))).willReturn(result);
+
+        //when
+        mvc.perform(post("/users/bulk")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("username,password\nmanager,1111\nuser,1111\n"))
+                .andDo(print())
+                //then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("username already exists"));
+    }
+
+    @Test
+    @DisplayName("ADMIN 권한 없이 POST /users/bulk 호출시 회원 일괄 등록을 하지 않고 /denied 로 redirect 한다.")
+    @WithMockUser(username = "user", password = "1111", roles = "USER")
+    void createUsersBulkAccessDeniedTest() throws Exception {
+        //when
+        mvc.perform(post("/users/bulk")
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content("{\"username\":\"manager\",\"password\":\"1111\"}\n"))
+                .andDo(print())
+                //then
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().string("Location", startsWith(DENIED_URL)));
+        verifyNoInteractions(userBulkImportService);
+    }
+
+    @Test
+    @DisplayName("ADMIN 권한 없이 POST /users/bulk/ (끝에 '/') 호출시에도 회원 일괄 등록을 하지 않고 /denied 로 redirect 한다.")
+    @WithMockUser(username = "user", password = "1111", roles = "USER")
+    void createUsersBulkTrailingSlashAccessDeniedTest() throws Exception {
+        //when
+        mvc.perform(post("/users/bulk/")
+                        .with(csrf())
+                        .contentType("application/x-ndjson")
+                        .content("{\"username\":\"admin2\",\"password\":\"1111\",\"role\":\"ROLE_ADMIN\"}\n"))
+                .andDo(print())
+                //then
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().string("Location", startsWith(DENIED_URL)));
+        verifyNoInteractions(userBulkImportService);
+    }
+}
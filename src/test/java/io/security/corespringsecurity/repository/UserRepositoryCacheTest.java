@@ -0,0 +1,92 @@
+package io.security.corespringsecurity.repository;
+
+import io.security.corespringsecurity.domain.Account;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 적중 여부는 트랜잭션(세션)이 끝난 뒤에야 확인할 수 있으므로 @Transactional 없이 TransactionTemplate 으로 커밋한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class UserRepositoryCacheTest {
+
+    @Autowired
+    UserRepository repository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    Account user;
+
+    @BeforeEach
+    void setUp() {
+        user = transactionTemplate.execute(status -> repository.save(getUser("{noop}1111")));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("username 으로 반복 조회하면 두번째 조회부터는 DB 에 쿼리하지 않고 2차 캐시에서 조회한다.")
+    void findByUsernameHitsSecondLevelCache() {
+        //given
+        transactionTemplate.execute(status -> repository.findByUsername(user.getUsername()));
+        long queryCount = statistics.getPrepareStatementCount();
+
+        //when
+        Account actualUser = transactionTemplate.execute(status -> repository.findByUsername(user.getUsername()));
+
+        //then
+        assertThat(actualUser.getId()).isEqualTo(user.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(queryCount);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("비밀번호를 변경하면 2차 캐시도 변경된 값으로 조회된다.")
+    void updatePasswordRefreshesCache() {
+        //given
+        transactionTemplate.execute(status -> repository.findByUsername(user.getUsername()));
+
+        //when
+        transactionTemplate.execute(status -> {
+            repository.findByUsername(user.getUsername()).setPassword("{noop}2222");
+            return null;
+        });
+        Account actualUser = transactionTemplate.execute(status -> repository.findByUsername(user.getUsername()));
+
+        //then
+        assertThat(actualUser.getPassword()).isEqualTo("{noop}2222");
+    }
+
+    @Test
+    @DisplayName("없는 username 으로 조회하면 null 을 반환한다.")
+    void findByUnknownUsername() {
+        //when
+        Account actualUser = transactionTemplate.execute(status -> repository.findByUsername("unknown"));
+
+        //then
+        assertThat(actualUser).isNull();
+    }
+}
@@ -0,0 +1,39 @@
+package io.security.corespringsecurity.security.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+public class JdbcLoginAuditWriterTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("로그인 기록을 login_audit 테이블에 batch insert 한다.")
+    void write() {
+        //given
+        JdbcLoginAuditWriter writer = new JdbcLoginAuditWriter(jdbcTemplate);
+
+        //when
+        writer.write(Arrays.asList(
+                LoginAuditEvent.success("audit-user", "10.0.0.1"),
+                LoginAuditEvent.failure("audit-user", "10.0.0.2", IllegalStateException.class)));
+
+        //then
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from login_audit where username = ?", Integer.class, "audit-user")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "select exception_type from login_audit where username = ? and outcome = 'FAILURE'", String.class, "audit-user"))
+                .isEqualTo("IllegalStateException");
+    }
+}
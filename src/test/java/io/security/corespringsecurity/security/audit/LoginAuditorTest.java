@@ -0,0 +1,64 @@
+package io.security.corespringsecurity.security.audit;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.RAW_PASSWORD;
+import static io.security.corespringsecurity.constants.TestDataConstants.getRoles;
+import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoginAuditorTest {
+
+    List<LoginAuditEvent> events = new ArrayList<>();
+    LoginAuditor loginAuditor = events::add;
+
+    @Test
+    @DisplayName("인증 성공시 인증 객체의 username, WebAuthenticationDetails 의 remoteAddress 를 기록한다.")
+    void recordSuccess() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        Account user = getUser(RAW_PASSWORD);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(AccountPrincipal.of(user, getRoles(user)), null, getRoles(user));
+        authentication.setDetails(new WebAuthenticationDetails(request));
+
+        //when
+        loginAuditor.recordSuccess(request, authentication);
+
+        //then
+        LoginAuditEvent event = events.get(0);
+        assertThat(event.getUsername()).isEqualTo(user.getUsername());
+        assertThat(event.getRemoteAddress()).isEqualTo("10.0.0.1");
+        assertThat(event.getOutcome()).isEqualTo(LoginAuditEvent.Outcome.SUCCESS);
+        assertThat(event.getExceptionType()).isNull();
+    }
+
+    @Test
+    @DisplayName("인증 실패시 요청 파라미터의 username, remoteAddr, 예외 타입을 기록한다.")
+    void recordFailure() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.2");
+        request.setParameter("username", "user");
+
+        //when
+        loginAuditor.recordFailure(request, new BadCredentialsException("invalid password"));
+
+        //then
+        LoginAuditEvent event = events.get(0);
+        assertThat(event.getUsername()).isEqualTo("user");
+        assertThat(event.getRemoteAddress()).isEqualTo("10.0.0.2");
+        assertThat(event.getOutcome()).isEqualTo(LoginAuditEvent.Outcome.FAILURE);
+        assertThat(event.getExceptionType()).isEqualTo("BadCredentialsException");
+    }
+}
@@ -0,0 +1,117 @@
+package io.security.corespringsecurity.security.audit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.security.corespringsecurity.security.audit.RingBufferLoginAuditor.METRIC_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RingBufferLoginAuditorTest {
+
+    MeterRegistry meterRegistry;
+    List<List<LoginAuditEvent>> batches;
+    LoginAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batches = Collections.synchronizedList(new ArrayList<>());
+        writer = events -> batches.add(new ArrayList<>(events));
+    }
+
+    @Test
+    @DisplayName("buffer 의 기록을 batchSize 단위로 저장한다.")
+    void drainInBatches() {
+        //given
+        RingBufferLoginAuditor auditor = new RingBufferLoginAuditor(writer, 16, 4, Duration.ofMillis(10), meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            auditor.record(LoginAuditEvent.success("user" + i, "127.0.0.1"));
+        }
+
+        //when
+        List<LoginAuditEvent> batch = new ArrayList<>();
+        int first = auditor.drain(batch);
+
+        //then
+        assertThat(first).isEqualTo(4);
+        assertThat(auditor.drain(batch) + auditor.drain(batch)).isEqualTo(6);
+        assertThat(auditor.drain(batch)).isZero();
+        assertThat(batches).extracting(List::size).containsExactly(4, 4, 2);
+        assertThat(batches.get(0).get(0).getUsername()).isEqualTo("user0");
+        assertThat(meterRegistry.get(METRIC_PREFIX + ".written").counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("buffer 가 가득 차면 기다리지 않고 기록을 버린 뒤 dropped 카운터를 증가시킨다.")
+    void dropWhenFull() {
+        //given
+        RingBufferLoginAuditor auditor = new RingBufferLoginAuditor(writer, 8, 8, Duration.ofMillis(10), meterRegistry);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            auditor.record(LoginAuditEvent.success("user" + i, "127.0.0.1"));
+        }
+
+        //then
+        assertThat(auditor.size()).isEqualTo(8);
+        assertThat(meterRegistry.get(METRIC_PREFIX + ".dropped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 batch 는 버리고 failed 카운터를 증가시킨다.")
+    void writeFailure() {
+        //given
+        RingBufferLoginAuditor auditor = new RingBufferLoginAuditor(events -> {
+            throw new IllegalStateException("db down");
+        }, 8, 8, Duration.ofMillis(10), meterRegistry);
+        auditor.record(LoginAuditEvent.failure("user", "127.0.0.1", IllegalStateException.class));
+
+        //when
+        auditor.drain(new ArrayList<>());
+
+        //then
+        assertThat(auditor.size()).isZero();
+        assertThat(meterRegistry.get(METRIC_PREFIX + ".failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 백그라운드 스레드가 모두 저장하고, 종료시 남은 기록을 저장한다.")
+    void concurrentRecord() throws Exception {
+        //given
+        RingBufferLoginAuditor auditor = new RingBufferLoginAuditor(writer, 1 << 14, 100, Duration.ofMillis(1), meterRegistry);
+        auditor.afterPropertiesSet();
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    auditor.record(LoginAuditEvent.success("user", "127.0.0.1"));
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        auditor.destroy();
+
+        //then
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(threads * perThread);
+        assertThat(batches).allMatch(batch -> batch.size() <= 100);
+    }
+}
@@ -0,0 +1,129 @@
+package io.security.corespringsecurity.security.authority;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.security.corespringsecurity.constants.RoleConstant.*;
+import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RoleAuthoritiesTest {
+
+    @Test
+    @DisplayName("등록된 권한이면 같은 불변 권한 목록을 반환한다.")
+    void authorities() {
+        //when
+        List<GrantedAuthority> first = RoleAuthorities.authorities(RoleAuthorities.ROLE_PREFIX + USER_ROLE);
+        List<GrantedAuthority> second = RoleAuthorities.authorities(RoleAuthorities.ROLE_PREFIX + USER_ROLE);
+
+        //then
+        assertThat(first).isSameAs(second);
+        assertThat(first).containsExactly(new SimpleGrantedAuthority(RoleAuthorities.ROLE_PREFIX + USER_ROLE));
+        assertThatThrownBy(() -> first.add(new SimpleGrantedAuthority(ADMIN_ROLE))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("권한이 1개인 목록은 공유 권한 목록으로 바꾸고, AccountContext 는 이를 복사하지 않는다.")
+    void canonical() {
+        //given
+        Account account = getUser("password");
+        account.setRole(RoleAuthorities.ROLE_PREFIX + USER_ROLE);
+
+        //when
+        AccountContext accountContext = new AccountContext(account, Collections.singletonList(new SimpleGrantedAuthority(account.getRole())));
+
+        //then
+        assertThat(accountContext.getAuthorities()).isSameAs(RoleAuthorities.authorities(account.getRole()));
+        assertThat(accountContext.getPrincipal().getAuthorities()).isSameAs(accountContext.getAuthorities());
+    }
+
+    @Test
+    @DisplayName("RoleConstant 의 권한은 미리 bit 가 부여되고, 권한 목록의 bitmask 는 각 권한 bit 의 OR 이다.")
+    void mask() {
+        //given
+        long userBit = RoleAuthorities.bit(RoleAuthorities.ROLE_PREFIX + USER_ROLE);
+        long adminBit = RoleAuthorities.bit(RoleAuthorities.ROLE_PREFIX + ADMIN_ROLE);
+
+        //when
+        long mask = RoleAuthorities.mask(Arrays.asList(
+                new SimpleGrantedAuthority(RoleAuthorities.ROLE_PREFIX + USER_ROLE),
+                new SimpleGrantedAuthority(RoleAuthorities.ROLE_PREFIX + ADMIN_ROLE)));
+
+        //then
+        assertThat(Long.bitCount(userBit)).isEqualTo(1);
+        assertThat(Long.bitCount(adminBit)).isEqualTo(1);
+        assertThat(userBit).isNotEqualTo(adminBit);
+        assertThat(mask).isEqualTo(userBit | adminBit);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 권한(회원 정보의 임의 role)은 bit 를 부여하거나 저장하지 않는다.")
+    void unknownRole() {
+        //given
+        String unknown = RoleAuthorities.ROLE_PREFIX + "UNKNOWN_" + System.nanoTime();
+
+        //when
+        long bit = RoleAuthorities.bit(unknown);
+        long mask = RoleAuthorities.mask(RoleAuthorities.authorities(unknown));
+
+        //then
+        assertThat(bit).isZero();
+        assertThat(mask).isZero();
+        assertThat(RoleAuthorities.authorities(unknown))
+                .isNotSameAs(RoleAuthorities.authorities(unknown))
+                .containsExactly(new SimpleGrantedAuthority(unknown));
+        assertThat(RoleAuthorities.bit(unknown)).isZero();
+    }
+
+    @Test
+    @DisplayName("저장된 권한을 등록하면 bit 와 공유 권한 목록이 생기고, 다시 등록해도 같은 bit 를 사용한다.")
+    void register() {
+        //given
+        String role = RoleAuthorities.ROLE_PREFIX + "REGISTERED_" + System.nanoTime();
+
+        //when
+        long bit = RoleAuthorities.register(role);
+
+        //then
+        assertThat(Long.bitCount(bit)).isEqualTo(1);
+        assertThat(RoleAuthorities.register(role)).isEqualTo(bit);
+        assertThat(RoleAuthorities.bit(role)).isEqualTo(bit);
+        assertThat(RoleAuthorities.authorities(role)).isSameAs(RoleAuthorities.authorities(role));
+    }
+
+    @Test
+    @DisplayName("AccountPrincipal 은 역직렬화시 roleMask 를 다시 계산한다.")
+    void principalSerialization() throws Exception {
+        //given
+        AccountPrincipal principal = new AccountPrincipal(1L, "user", "ROLE_USER", RoleAuthorities.authorities("ROLE_USER"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(principal);
+        }
+
+        //when
+        AccountPrincipal deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (AccountPrincipal) in.readObject();
+        }
+
+        //then
+        assertThat(deserialized).isEqualTo(principal);
+        assertThat(deserialized.getRoleMask()).isEqualTo(RoleAuthorities.bit("ROLE_USER")).isNotZero();
+        assertThat(deserialized.getAuthorities()).isSameAs(RoleAuthorities.authorities("ROLE_USER"));
+    }
+}
@@ -0,0 +1,70 @@
+package io.security.corespringsecurity.security.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.configs.CacheConfig;
+import io.security.corespringsecurity.security.service.AccountContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserCache;
+
+import java.time.Duration;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CaffeineUserCacheTest {
+
+    CaffeineUserCache userCache;
+    AccountContext accountContext;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new CaffeineUserCache(10, Duration.ofMinutes(5));
+        Account user = getUser(RAW_PASSWORD);
+        accountContext = new AccountContext(user, getRoles(user));
+    }
+
+    @Test
+    @DisplayName("캐시에 저장한 user 를 username 으로 조회한다.")
+    void putAndGet() {
+        //when
+        userCache.putUserInCache(accountContext);
+
+        //then
+        assertThat(userCache.getUserFromCache("user")).isSameAs(accountContext);
+        assertThat(userCache.getStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에서 제거한 user 는 조회되지 않는다.")
+    void remove() {
+        //given
+        userCache.putUserInCache(accountContext);
+
+        //when
+        userCache.removeUserFromCache("user");
+
+        //then
+        assertThat(userCache.getUserFromCache("user")).isNull();
+        assertThat(userCache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CacheConfig 로 등록한 userCache 의 hit, miss 수는 metric(cache.gets)으로 기록된다.")
+    void metrics() {
+        //given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserCache userCache = new CacheConfig().userCache(registry, 10, Duration.ofMinutes(5));
+        userCache.putUserInCache(accountContext);
+
+        //when
+        userCache.getUserFromCache("user");
+        userCache.getUserFromCache("unknown");
+
+        //then
+        assertThat(registry.get("cache.gets").tag("cache", CacheConfig.USER_CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", CacheConfig.USER_CACHE_NAME).tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,60 @@
+package io.security.corespringsecurity.security.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UsernameBloomFilterTest {
+
+    @Test
+    @DisplayName("load 완료 전에는 모든 username 에 true 를 반환한다.")
+    void notLoaded() {
+        //given
+        UsernameBloomFilter filter = new UsernameBloomFilter(1000, 0.01);
+
+        //when
+        boolean mightContain = filter.mightContain("unknown");
+
+        //then
+        assertThat(mightContain).isTrue();
+        assertThat(filter.isLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가한 username 은 항상 true 이고, 추가하지 않은 username 은 대부분 false 이다.")
+    void mightContain() {
+        //given
+        int usernames = 10_000;
+        UsernameBloomFilter filter = new UsernameBloomFilter(usernames, 0.01);
+        for (int i = 0; i < usernames; i++) {
+            filter.put("user" + i);
+        }
+        filter.markLoaded();
+
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < usernames; i++) {
+            if (filter.mightContain("unknown" + i)) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        for (int i = 0; i < usernames; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(usernames * 3 / 100);
+    }
+
+    @Test
+    @DisplayName("DISABLED 는 항상 true 를 반환한다.")
+    void disabled() {
+        //when
+        UsernameBloomFilter.DISABLED.put("user");
+
+        //then
+        assertThat(UsernameBloomFilter.DISABLED.isEnabled()).isFalse();
+        assertThat(UsernameBloomFilter.DISABLED.mightContain("unknown")).isTrue();
+    }
+}
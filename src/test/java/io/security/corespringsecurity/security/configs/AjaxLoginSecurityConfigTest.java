@@ -0,0 +1,199 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.test.TestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.servlet.http.Cookie;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.*;
+import static io.security.corespringsecurity.constants.UrlConstant.API_LOGIN_URL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest
+@Import(TestConfig.class)
+public class AjaxLoginSecurityConfigTest {
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @MockBean
+    CustomUsersDetailsService customUsersDetailsService;
+
+    MockMvc mvc;
+    Account account;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        account = getAdmin(passwordEncoder.encode(RAW_PASSWORD));
+    }
+
+    @Test
+    @DisplayName("POST /api/login 로그인 성공시 redirect 없이 200 으로 사용자 정보를 응답한다.")
+    void loginTest() throws Exception {
+        //given
+        given(customUsersDetailsService.loadUserByUsername(account.getUsername())).willReturn(new AccountContext(account, getRoles(account)));
+        //when
+        mvc.perform(post(API_LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"" + RAW_PASSWORD + "\",\"secret_key\":\"secret\"}")
+                )
+                .andDo(print())
+                //then
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.username").value("admin"))
+                .andExpect(jsonPath("$.authorities[0]").value(account.getRole()))
+                .andExpect(authenticated().withAuthenticationPrincipal(AccountPrincipal.of(account, getRoles(account))))
+        ;
+    }
+
+    @Test
+    @DisplayName("POST /api/login 비밀번호 불일치시 redirect 없이 401 로 응답한다.")
+    void loginInvalidPasswordTest() throws Exception {
+        //given
+        given(customUsersDetailsService.loadUserByUsername(account.getUsername())).willReturn(new AccountContext(account, getRoles(account)));
+        //when
+        mvc.perform(post(API_LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"fail password\",\"secret_key\":\"secret\"}")
+                )
+                .andDo(print())
+                //then
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().json("{\"error\":\"invalid_credentials\"}"))
+                .andExpect(unauthenticated())
+        ;
+    }
+
+    @Test
+    @DisplayName("POST /api/login secret_key 가 없으면 form 로그인과 같이 인증하지 않고 401 로 응답한다.")
+    void loginWithoutSecretKeyTest() throws Exception {
+        //given
+        given(customUsersDetailsService.loadUserByUsername(account.getUsername())).willReturn(new AccountContext(account, getRoles(account)));
+        //when
+        mvc.perform(post(API_LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"admin\",\"password\":\"" + RAW_PASSWORD + "\"}")
+                )
+                .andDo(print())
+                //then
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().json("{\"error\":\"invalid_credentials\"}"))
+                .andExpect(unauthenticated())
+        ;
+    }
+
+    @Test
+    @DisplayName("POST /api/login 로그인 성공시 form 로그인과 같이 기존 csrf token 쿠키를 삭제해 새로 발급받게 한다.")
+    void loginRotatesCsrfTokenTest() throws Exception {
+        //given
+        given(customUsersDetailsService.loadUserByUsername(account.getUsername())).willReturn(new AccountContext(account, getRoles(account)));
+        //when
+        mvc.perform(post(API_LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .cookie(new Cookie("XSRF-TOKEN", "old-token"))
+                        .content("{\"username\":\"admin\",\"password\":\"" + RAW_PASSWORD + "\",\"secret_key\":\"secret\"}")
+                )
+                .andDo(print())
+                //then
+                .andExpect(status().isOk())
+                .andExpect(cookie().maxAge("XSRF-TOKEN", 0))
+        ;
+    }
+
+    @Test
+    @DisplayName("POST /api/login 없는 회원도 비밀번호 불일치와 같은 401 로 응답한다.")
+    void loginUserNotFoundTest() throws Exception {
+        //given
+        given(customUsersDetailsService.loadUserByUsername(any())).willThrow(new UsernameNotFoundException("UsernameNotFoundException"));
+        //when
+        mvc.perform(post(API_LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"unknown\",\"password\":\"1111\",\"secret_key\":\"secret\"}")
+                )
+                .andDo(print())
+                //then
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().json("{\"error\":\"invalid_credentials\"}"))
+        ;
+    }
+
+    @Test
+    @DisplayName("POST /api/login Content-Type 이 application/json 이 아니면 인증하지 않고 400 으로 응답한다.")
+    void loginNotJsonTest() throws Exception {
+        //when
+        mvc.perform(post(API_LOGIN_URL)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("username", "admin")
+                        .param("password", RAW_PASSWORD)
+                )
+                .andDo(print())
+                //then
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"error\":\"invalid_request\"}"))
+        ;
+        verify(customUsersDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    @DisplayName("POST /api/login Content-Type 이 wildcard(*/*, application/*) 이면 application/json 으로 보지 않고 400 으로 응답한다.")
+    void loginWildcardContentTypeTest() throws Exception {
+        for (String contentType : new String[]{"*/*", "application/*"}) {
+            //when
+            mvc.perform(post(API_LOGIN_URL)
+                            .contentType(contentType)
+                            .content("{\"username\":\"admin\",\"password\":\"" + RAW_PASSWORD + "\",\"secret_key\":\"secret\"}")
+                    )
+                    .andDo(print())
+                    //then
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("{\"error\":\"invalid_request\"}"))
+            ;
+        }
+        verify(customUsersDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    @DisplayName("인증 없이 /api/** 호출시 로그인 페이지로 redirect 하지 않고 401 로 응답한다.")
+    void apiUnauthorizedTest() throws Exception {
+        //when
+        mvc.perform(get("/api/messages"))
+                .andDo(print())
+                //then
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().json("{\"error\":\"unauthorized\"}"))
+        ;
+    }
+}
@@ -0,0 +1,102 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.test.TestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.*;
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest
+@Import(TestConfig.class)
+public class AnonymousSessionSecurityConfigTest {
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @MockBean
+    CustomUsersDetailsService customUsersDetailsService;
+
+    MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {ROOT_URL, USERS_URL, LOGIN_URL})
+    @DisplayName("익명 사용자의 permitAll page 요청은 세션을 생성하지 않는다.")
+    void permitAllNoSessionTest(String url) throws Exception {
+        //when
+        MvcResult result = mvc.perform(get(url))
+                //then
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("익명 사용자의 API 요청은 401 로 응답하고, 로그인 후 돌아갈 요청으로 저장하지 않아 세션을 생성하지 않는다.")
+    void apiNoSessionTest() throws Exception {
+        //when
+        MvcResult result = mvc.perform(get("/api/messages"))
+                //then
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("익명 사용자가 인증이 필요한 page 에 접근하면 요청을 저장하고, 로그인 성공 후 그 page 로 돌아간다.")
+    void savedRequestTest() throws Exception {
+        //given
+        Account account = getUser(passwordEncoder.encode(RAW_PASSWORD));
+        given(customUsersDetailsService.loadUserByUsername(account.getUsername())).willReturn(new AccountContext(account, getRoles(account)));
+        MvcResult denied = mvc.perform(get(MYPAGE_URL))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) denied.getRequest().getSession(false);
+        assertThat(session).isNotNull();
+
+        //when
+        mvc.perform(post(LOGIN_PROC_URL)
+                        .session(session)
+                        .param("username", account.getUsername())
+                        .param("password", RAW_PASSWORD)
+                        .param("secret_key", "secret")
+                        .with(csrf()))
+                //then
+                .andExpect(authenticated())
+                .andExpect(redirectedUrl("http://localhost" + MYPAGE_URL));
+    }
+}
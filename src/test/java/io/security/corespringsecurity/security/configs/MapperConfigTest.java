@@ -0,0 +1,48 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.domain.AccountDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapperConfigTest {
+
+    ModelMapper modelMapper;
+
+    @BeforeEach
+    void setUp() {
+        modelMapper = new MapperConfig().modelMapper();
+    }
+
+    @Test
+    @DisplayName("사용하는 TypeMap 은 시작 시점에 미리 만들어져 있다.")
+    void precompiledTypeMaps() {
+        assertThat(modelMapper.getTypeMap(AccountDto.class, Account.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("AccountDto 를 Account 로 변환한다.")
+    void mapAccountDto() {
+        //given
+        AccountDto accountDto = AccountDto.builder()
+                .username("user")
+                .password("1111")
+                .email("aa@aa.com")
+                .age("11")
+                .role("USER")
+                .build();
+
+        //when
+        Account account = modelMapper.map(accountDto, Account.class);
+
+        //then
+        assertThat(account.getId()).isNull();
+        assertThat(account)
+                .extracting("username", "password", "email", "age", "role")
+                .containsExactly("user", "1111", "aa@aa.com", "11", "USER");
+    }
+}
@@ -0,0 +1,86 @@
+package io.security.corespringsecurity.security.configs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ProductionSettingsValidatorTest {
+
+    @Test
+    @DisplayName("application-prod.properties 를 적용하면 개발용 설정이 남아 있지 않다.")
+    void prodProfile() throws IOException {
+        //given
+        StandardEnvironment environment = environment("application-prod.properties", "application.properties");
+
+        //when
+        List<String> violations = ProductionSettingsValidator.violations(environment, true);
+
+        //then
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기본(개발) 설정으로 prod profile 을 사용하면 위반한 설정을 모두 알려주고 시작을 중단한다.")
+    void developmentSettings() throws IOException {
+        //given
+        StandardEnvironment environment = environment("application.properties");
+
+        //when //then
+        assertThat(ProductionSettingsValidator.violations(environment, true)).containsExactly(
+                "spring.jpa.hibernate.ddl-auto=create (use validate or none)",
+                "spring.jpa.properties.hibernate.format_sql=true",
+                "spring.thymeleaf.cache=false",
+                "spring.devtools.restart.enabled=true",
+                "spring.devtools.livereload.enabled=true");
+        assertThatThrownBy(() -> ProductionSettingsValidator.validate(environment, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'prod' profile")
+                .hasMessageContaining("spring.jpa.hibernate.ddl-auto=create");
+    }
+
+    @Test
+    @DisplayName("devtools 가 classpath 에 없으면 devtools 설정은 검사하지 않는다.")
+    void devtoolsAbsent() {
+        //given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.devtools.restart.enabled", "true");
+
+        //when //then
+        assertThat(ProductionSettingsValidator.violations(environment, false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 토큰을 사용하면서 secret 이 없으면 위반이다.")
+    void tokenWithoutSecret() {
+        //given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("security.token.enabled", "true")
+                .withProperty("security.token.secret", "");
+
+        //when //then
+        assertThat(ProductionSettingsValidator.violations(environment, false))
+                .containsExactly("security.token.secret is empty while security.token.enabled=true");
+    }
+
+    /**
+     * 앞의 파일이 우선 (profile 파일이 application.properties 보다 우선하는 것과 같음)
+     */
+    private static StandardEnvironment environment(String... resources) throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        for (String resource : resources) {
+            environment.getPropertySources().addLast(
+                    new PropertiesPropertySource(resource, PropertiesLoaderUtils.loadProperties(new ClassPathResource(resource))));
+        }
+        return environment;
+    }
+}
@@ -93,7 +93,7 @@ public class SecurityConfigTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl(ROOT_URL))
                 .andExpect(authenticated()
-                        .withAuthenticationPrincipal(accountContext.getAccount())
+                        .withAuthenticationPrincipal(accountContext.getPrincipal())
                 )
         ;
         //then
@@ -0,0 +1,138 @@
+package io.security.corespringsecurity.security.configs;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.service.AccountContext;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.security.token.SignedTokenService;
+import io.security.corespringsecurity.test.TestConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.servlet.http.Cookie;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.*;
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+import static io.security.corespringsecurity.security.token.SignedTokenService.TOKEN_COOKIE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(properties = "security.token.enabled=true")
+@Import(TestConfig.class)
+public class StatelessSecurityConfigTest {
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    SignedTokenService signedTokenService;
+
+    @MockBean
+    CustomUsersDetailsService customUsersDetailsService;
+
+    MockMvc mvc;
+    Account account;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        account = getAdmin(passwordEncoder.encode(RAW_PASSWORD));
+        account.setId(1L);
+    }
+
+    @Test
+    @DisplayName("로그인 성공시 세션을 생성하지 않고 토큰 쿠키를 발급한다.")
+    void loginIssueTokenTest() throws Exception {
+        //given
+        given(customUsersDetailsService.loadUserByUsername(account.getUsername())).willReturn(new AccountContext(account, getRoles(account)));
+        //when
+        MvcResult result = mvc.perform(post(LOGIN_PROC_URL)
+                        .with(csrf())
+                        .param("username", "admin")
+                        .param("password", RAW_PASSWORD)
+                        .param("secret_key", "secret")
+                )
+                .andDo(print())
+                //then
+                .andExpect(redirectedUrl(ROOT_URL))
+                .andExpect(cookie().httpOnly(TOKEN_COOKIE_NAME, true))
+                .andReturn();
+        assertThat(result.getRequest().getSession(false)).isNull();
+        assertThat(signedTokenService.verify(result.getResponse().getCookie(TOKEN_COOKIE_NAME).getValue()).getUsername())
+                .isEqualTo(account.getUsername());
+    }
+
+    @Test
+    @DisplayName("로그인 실패시 세션을 생성하지 않는다.")
+    void loginFailNoSessionTest() throws Exception {
+        //given
+        given(customUsersDetailsService.loadUserByUsername(account.getUsername())).willReturn(new AccountContext(account, getRoles(account)));
+        //when
+        MvcResult result = mvc.perform(post(LOGIN_PROC_URL)
+                        .with(csrf())
+                        .param("username", "admin")
+                        .param("password", "fail password")
+                        .param("secret_key", "secret")
+                )
+                .andDo(print())
+                //then
+                .andExpect(redirectedUrl("/login?error=true&exception=Invalid Username or Password"))
+                .andReturn();
+        assertThat(result.getRequest().getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 쿠키로 요청하면 DB 조회 없이 인증/인가된다.")
+    void tokenAuthenticatedTest() throws Exception {
+        //given
+        Account user = getUser(RAW_PASSWORD);
+        user.setId(2L);
+        user.setRole("ROLE_USER");
+        //when
+        mvc.perform(get(MYPAGE_URL)
+                        .cookie(new Cookie(TOKEN_COOKIE_NAME, signedTokenService.issue(AccountPrincipal.of(user, getRoles(user)))))
+                )
+                .andDo(print())
+                //then
+                .andExpect(status().isOk())
+                .andExpect(view().name("user/mypage"))
+        ;
+        verifyNoInteractions(customUsersDetailsService);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 인증이 필요한 페이지 접근시 로그인 페이지로 이동한다.")
+    void noTokenTest() throws Exception {
+        //when
+        mvc.perform(get(MYPAGE_URL))
+                .andDo(print())
+                //then
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(REDIRECTED_LOGIN_URL))
+                .andExpect(unauthenticated())
+        ;
+    }
+}
@@ -0,0 +1,39 @@
+package io.security.corespringsecurity.security.configs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VirtualThreadConfigTest {
+
+    @Test
+    @DisplayName("Java 21 이상이면 요청마다 이름이 붙은 virtual thread 에서 실행하고, 미만이면 executor 생성에 실패한다.")
+    void newVirtualThreadPerTaskExecutor() throws Exception {
+        if (!VirtualThreadConfig.isSupported()) {
+            //when
+            assertThatThrownBy(() -> VirtualThreadConfig.newVirtualThreadPerTaskExecutor("test-vt-"))
+                    //then
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Java 21");
+            return;
+        }
+
+        //given
+        ExecutorService executor = VirtualThreadConfig.newVirtualThreadPerTaskExecutor("test-vt-");
+        try {
+            //when
+            String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+            Object virtual = executor.submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get();
+
+            //then
+            assertThat(threadName).startsWith("test-vt-");
+            assertThat(virtual).isEqualTo(true);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.security.corespringsecurity.security.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static io.security.corespringsecurity.security.crypto.BCryptStrengthCalibrator.MAX_STRENGTH;
+import static io.security.corespringsecurity.security.crypto.BCryptStrengthCalibrator.MIN_STRENGTH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BCryptStrengthCalibratorTest {
+
+    @Test
+    @DisplayName("목표 시간이 매우 짧아도 기본 strength 보다 낮아지지 않는다.")
+    void minStrength() {
+        //when
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofNanos(1));
+        //then
+        assertThat(strength).isEqualTo(MIN_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("목표 시간이 매우 길어도 최대 strength 를 넘지 않는다.")
+    void maxStrength() {
+        //when
+        int strength = BCryptStrengthCalibrator.calibrate(Duration.ofDays(1));
+        //then
+        assertThat(strength).isEqualTo(MAX_STRENGTH);
+    }
+}
@@ -0,0 +1,118 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.RAW_PASSWORD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+
+    MeterRegistry meterRegistry;
+    CountDownLatch started;
+    CountDownLatch release;
+    BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("검증 스레드에서 matches 를 수행한 결과를 반환한다.")
+    void matches() {
+        //given
+        release.countDown();
+        //when
+        boolean matches = encoder.matches(RAW_PASSWORD, RAW_PASSWORD);
+        //then
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("security.password.verification.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 PasswordVerificationRejectedException 이 발생한다.")
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        //given
+        CompletableFuture.runAsync(() -> encoder.matches(RAW_PASSWORD, RAW_PASSWORD));//검증 스레드 점유
+        started.await(1, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(() -> encoder.matches(RAW_PASSWORD, RAW_PASSWORD));//대기열 점유
+        while (meterRegistry.get("security.password.verification.queue").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        //then
+        assertThatThrownBy(() -> encoder.matches(RAW_PASSWORD, RAW_PASSWORD))//when
+                .isInstanceOf(PasswordVerificationRejectedException.class);
+        assertThat(meterRegistry.get("security.password.verification.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열에서 timeout 이 지나도록 검증이 시작되지 않으면 PasswordVerificationRejectedException 이 발생한다.")
+    void rejectWhenTimeout() throws InterruptedException {
+        //given
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, Duration.ofMillis(50), meterRegistry);
+        CompletableFuture.runAsync(() -> encoder.matches(RAW_PASSWORD, RAW_PASSWORD));//검증 스레드 점유
+        started.await(1, TimeUnit.SECONDS);
+
+        //then
+        assertThatThrownBy(() -> encoder.matches(RAW_PASSWORD, RAW_PASSWORD))//when
+                .isInstanceOf(PasswordVerificationRejectedException.class);
+        assertThat(meterRegistry.get("security.password.verification.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 시작된 검증은 timeout 이 지나도 끝까지 수행한다.")
+    void finishStartedVerification() throws Exception {
+        //given
+        encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, Duration.ofMillis(50), meterRegistry);
+        CompletableFuture<Boolean> matches = CompletableFuture.supplyAsync(() -> encoder.matches(RAW_PASSWORD, RAW_PASSWORD));
+        started.await(1, TimeUnit.SECONDS);
+
+        //when
+        Thread.sleep(100);
+        release.countDown();
+
+        //then
+        assertThat(matches.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("security.password.verification.rejected").counter().count()).isZero();
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.security.corespringsecurity.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.RAW_PASSWORD;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PasswordUpgraderTest {
+
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    @Mock
+    UserService userService;
+
+    PasswordUpgrader passwordUpgrader;
+
+    @BeforeEach
+    void setUp() {
+        passwordUpgrader = new PasswordUpgrader(passwordEncoder, userService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordUpgrader.destroy();
+    }
+
+    @Test
+    @DisplayName("재해시 대상이면 백그라운드에서 새 해시를 저장한다.")
+    void upgrade() {
+        //given
+        given(passwordEncoder.upgradeEncoding("{bcrypt}old")).willReturn(true);
+        given(passwordEncoder.encode(RAW_PASSWORD)).willReturn("{bcrypt}new");
+
+        //when
+        passwordUpgrader.upgradeIfNecessary("user", RAW_PASSWORD, "{bcrypt}old");
+
+        //then
+        verify(userService, timeout(1000).times(1)).updatePassword("user", "{bcrypt}new");
+    }
+
+    @Test
+    @DisplayName("재해시 대상이 아니면 아무것도 하지 않는다.")
+    void notUpgrade() {
+        //given
+        given(passwordEncoder.upgradeEncoding("{bcrypt}current")).willReturn(false);
+
+        //when
+        passwordUpgrader.upgradeIfNecessary("user", RAW_PASSWORD, "{bcrypt}current");
+
+        //then
+        verify(passwordEncoder, never()).encode(any());
+        verify(userService, after(100).never()).updatePassword(anyString(), anyString());
+    }
+}
@@ -0,0 +1,68 @@
+package io.security.corespringsecurity.security.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.RAW_PASSWORD;
+import static io.security.corespringsecurity.security.crypto.TimedPasswordEncoder.METRIC_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimedPasswordEncoderTest {
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("matches 수행시간을 알고리즘 별로 기록한다.")
+    void recordMatches() {
+        //given
+        TimedPasswordEncoder encoder = new TimedPasswordEncoder("noop", new PlainTextPasswordEncoder(), meterRegistry);
+
+        //when
+        boolean matches = encoder.matches(RAW_PASSWORD, RAW_PASSWORD);
+
+        //then
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get(METRIC_NAME).tag("algorithm", "noop").tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("bcrypt strength 가 낮은 해시는 재해시 대상이다.")
+    void upgradeEncoding() {
+        //given
+        DelegatingPasswordEncoder weakEncoder = PasswordEncoderFactory.createDelegatingPasswordEncoder(4, meterRegistry);
+        DelegatingPasswordEncoder encoder = PasswordEncoderFactory.createDelegatingPasswordEncoder(5, meterRegistry);
+        String weakPassword = weakEncoder.encode(RAW_PASSWORD);
+
+        //when, then
+        assertThat(encoder.matches(RAW_PASSWORD, weakPassword)).isTrue();
+        assertThat(encoder.upgradeEncoding(weakPassword)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode(RAW_PASSWORD))).isFalse();
+        assertThat(encoder.upgradeEncoding("{noop}" + RAW_PASSWORD)).isTrue();
+    }
+
+    /**
+     * 평문 비교 encoder (NoOpPasswordEncoder 는 deprecated)
+     */
+    private static class PlainTextPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.security.corespringsecurity.security.handler;
 
+import io.security.corespringsecurity.security.audit.LoginAuditor;
+import io.security.corespringsecurity.security.crypto.PasswordVerificationRejectedException;
+import io.security.corespringsecurity.security.throttle.LoginThrottledException;
 import io.security.corespringsecurity.test.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +42,9 @@ public class CustomAuthenticationFailureHandlerTest {
     @Mock
     SimpleUrlAuthenticationFailureHandler simpleUrlAuthenticationFailureHandler;
 
+    @Mock
+    LoginAuditor loginAuditor;
+
     HttpServletRequest request;
     HttpServletResponse response;
 
@@ -78,6 +84,36 @@ public class CustomAuthenticationFailureHandlerTest {
         failureAuthenticationTest(ex, "Invalid Username or Password");
     }
 
+    @Test
+    @DisplayName("(비밀번호 검증 대기열 초과) 로그인 페이지로 redirect 하지 않고 503 으로 응답한다.")
+    void onAuthenticationVerificationRejected() throws ServletException, IOException {
+        //given
+        MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+        PasswordVerificationRejectedException ex = new PasswordVerificationRejectedException("password verification queue is full");
+        //when
+        customAuthenticationFailureHandler.onAuthenticationFailure(request, mockResponse, ex);
+        //then
+        assertThat(mockResponse.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(mockResponse.getHeader("Retry-After")).isNotNull();
+        assertThat(mockResponse.getRedirectedUrl()).isNull();
+        verify(loginAuditor, times(1)).recordFailure(request, ex);
+    }
+
+    @Test
+    @DisplayName("(로그인 시도 횟수 제한 초과) 로그인 페이지로 redirect 하지 않고 429 로 응답한다.")
+    void onAuthenticationThrottled() throws ServletException, IOException {
+        //given
+        MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+        LoginThrottledException ex = new LoginThrottledException("Too many login attempts", 30);
+        //when
+        customAuthenticationFailureHandler.onAuthenticationFailure(request, mockResponse, ex);
+        //then
+        assertThat(mockResponse.getStatus()).isEqualTo(429);
+        assertThat(mockResponse.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(mockResponse.getRedirectedUrl()).isNull();
+        verify(loginAuditor, times(1)).recordFailure(request, ex);
+    }
+
     private void failureAuthenticationTest(AuthenticationException exception, String errorMessage) throws IOException, ServletException {
         //given
         simpleUrlAuthenticationFailureHandler.setDefaultFailureUrl("/login?error=true&exception=" + errorMessage);
@@ -87,5 +123,7 @@ public class CustomAuthenticationFailureHandlerTest {
         //then
         verify(simpleUrlAuthenticationFailureHandler, times(1)).setDefaultFailureUrl(eq("/login?error=true&exception=" + errorMessage));
         verify(simpleUrlAuthenticationFailureHandler, times(1)).onAuthenticationFailure(eq(request), eq(response), eq(exception));
+        verify(loginAuditor, times(1)).recordFailure(request, exception);
+        assertThat(((MockHttpServletResponse) response).getRedirectedUrl()).isEqualTo("/login?error=true&exception=" + errorMessage);
     }
 }
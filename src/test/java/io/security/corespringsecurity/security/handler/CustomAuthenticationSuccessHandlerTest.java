@@ -1,6 +1,7 @@
 package io.security.corespringsecurity.security.handler;
 
 import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.audit.LoginAuditor;
 import io.security.corespringsecurity.security.service.AccountContext;
 import io.security.corespringsecurity.test.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +54,9 @@ public class CustomAuthenticationSuccessHandlerTest {
     @Mock
     RedirectStrategy redirectStrategy;
 
+    @Mock
+    LoginAuditor loginAuditor;
+
     Account user;
     Set<GrantedAuthority> roles;
     AccountContext accountContext;
@@ -116,5 +120,6 @@ public class CustomAuthenticationSuccessHandlerTest {
         //then
         verify(requestCache, times(1)).getRequest(any(), any());//.getRedirectUrl();
         verify(redirectStrategy, times(1)).sendRedirect(any(), any(), eq(ROOT_URL));
+        verify(loginAuditor, times(1)).recordSuccess(request, authentication);
     }
 }
@@ -0,0 +1,81 @@
+package io.security.corespringsecurity.security.metadatasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static io.security.corespringsecurity.constants.RoleConstant.*;
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UrlAuthorizationIndexTest {
+
+    UrlAuthorizationIndex index = UrlAuthorizationIndex.builder()
+            .permitAll(ROOT_URL, "/public/**", "user/login/**")
+            .hasAnyRole("/public/admin/**", ADMIN_ROLE)//앞의 "/public/**" 규칙이 우선
+            .hasAnyRole(MYPAGE_URL, USER_ROLE)
+            .hasAnyRole("/admin/**", ADMIN_ROLE, MANAGER_ROLE)
+            .hasAnyRole("/users/{id}", ADMIN_ROLE)
+            .anyRequest(UrlAccessAttribute.AUTHENTICATED)
+            .build();
+
+    @ParameterizedTest
+    @DisplayName("등록된 규칙 중 먼저 등록된 규칙을 조회하고, 일치하는 규칙이 없으면 anyRequest 규칙을 조회한다.")
+    @CsvSource({
+            "/, permitAll",
+            "/public, permitAll",
+            "/public/admin/a, permitAll",
+            "/mypage, hasAnyRole(ROLE_USER)",
+            "/mypage/, authenticated",
+            "/mypages, authenticated",
+            "/admin, 'hasAnyRole(ROLE_ADMIN,ROLE_MANAGER)'",
+            "/admin/a/b, 'hasAnyRole(ROLE_ADMIN,ROLE_MANAGER)'",
+            "/administrator, authenticated",
+            "/users/1, hasAnyRole(ROLE_ADMIN)",
+            "/users, authenticated",
+            "/user/login/a, authenticated",
+            "/messages, authenticated"
+    })
+    void getAttribute(String path, String expected) {
+        assertThat(index.getAttribute(request(path)).getAttribute()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("권한 bitmask 중 하나라도 일치하면 접근을 허용하고, 익명 사용자는 authenticated 이상의 접근을 거부한다.")
+    void isGranted() {
+        //given
+        AuthenticationTrustResolverImpl trustResolver = new AuthenticationTrustResolverImpl();
+        Authentication manager = new UsernamePasswordAuthenticationToken("manager", null, AuthorityUtils.createAuthorityList("ROLE_MANAGER"));
+        Authentication user = new UsernamePasswordAuthenticationToken("user", null, AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_OTHER"));
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+        //when
+        UrlAccessAttribute admin = index.getAttribute(request("/admin"));
+
+        //then
+        assertThat(admin.isGranted(manager, trustResolver)).isTrue();
+        assertThat(admin.isGranted(user, trustResolver)).isFalse();
+        assertThat(UrlAccessAttribute.AUTHENTICATED.isGranted(user, trustResolver)).isTrue();
+        assertThat(UrlAccessAttribute.AUTHENTICATED.isGranted(anonymous, trustResolver)).isFalse();
+        assertThat(UrlAccessAttribute.PERMIT_ALL.isGranted(anonymous, trustResolver)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 권한 조합은 같은 속성을 공유한다.")
+    void getAllAttributes() {
+        assertThat(index.getAllAttributes()).hasSize(5);
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
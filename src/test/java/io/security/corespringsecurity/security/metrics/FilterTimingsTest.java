@@ -0,0 +1,124 @@
+package io.security.corespringsecurity.security.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.DefaultSecurityFilterChain;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServlet;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.security.corespringsecurity.constants.UrlConstant.USERS_BULK_URL;
+import static io.security.corespringsecurity.constants.UrlConstant.USERS_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FilterTimingsTest {
+
+    SimpleMeterRegistry registry;
+    FilterTimings filterTimings;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filterTimings = new FilterTimings(registry, Arrays.asList(USERS_BULK_URL, USERS_URL));
+    }
+
+    @Test
+    @DisplayName("filter 자신의 수행시간만 기록한다 ; 다음 filter 의 수행시간은 바깥 filter 에 포함되지 않는다.")
+    void selfTime() throws Exception {
+        //given
+        Filter outer = new TimedFilter(new PassFilter(), filterTimings);
+        Filter inner = new TimedFilter(new SleepFilter(), filterTimings);
+        MockHttpServletRequest request = request("GET", USERS_URL);
+
+        //when
+        new MockFilterChain(new HttpServlet() {
+        }, outer, inner).doFilter(request, new MockHttpServletResponse());
+
+        //then
+        double outerMillis = registry.get(FilterTimings.FILTER).tag("url", USERS_URL).tag("filter", "PassFilter").timer().totalTime(TimeUnit.MILLISECONDS);
+        double innerMillis = registry.get(FilterTimings.FILTER).tag("url", USERS_URL).tag("filter", "SleepFilter").timer().totalTime(TimeUnit.MILLISECONDS);
+        assertThat(innerMillis).isGreaterThanOrEqualTo(20);
+        assertThat(outerMillis).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("url 태그는 처음 일치하는 pattern 으로, 일치하는 pattern 이 없으면 other 로 기록한다.")
+    void urlTag() throws Exception {
+        //given
+        Filter filter = new TimedFilter(new PassFilter(), filterTimings);
+
+        //when
+        filter.doFilter(request("POST", USERS_BULK_URL), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("GET", "/unknown"), new MockHttpServletResponse(), new MockFilterChain());
+
+        //then
+        Map<String, List<FilterTimings.FilterTiming>> snapshot = filterTimings.snapshot();
+        assertThat(snapshot).containsOnlyKeys(USERS_BULK_URL, FilterTimings.OTHER_URL);
+        assertThat(snapshot.get(USERS_BULK_URL).get(0).getFilter()).isEqualTo("PassFilter");
+        assertThat(snapshot.get(USERS_BULK_URL).get(0).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("FilterChainProxy 의 모든 filter 를 순서를 유지한 채 TimedFilter 로 감싼다.")
+    void postProcessor() {
+        //given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("filterTimings", filterTimings);
+        FilterChainTimingPostProcessor postProcessor = new FilterChainTimingPostProcessor(beanFactory.getBeanProvider(FilterTimings.class));
+        Filter first = new PassFilter();
+        Filter second = new SleepFilter();
+        FilterChainProxy filterChainProxy = new FilterChainProxy(new DefaultSecurityFilterChain(AnyRequestMatcher.INSTANCE, first, second));
+
+        //when
+        postProcessor.postProcessAfterInitialization(filterChainProxy, "springSecurityFilterChain");
+        postProcessor.postProcessAfterInitialization(filterChainProxy, "springSecurityFilterChain");
+
+        //then
+        List<Filter> filters = filterChainProxy.getFilterChains().get(0).getFilters();
+        assertThat(filters).allMatch(filter -> filter instanceof TimedFilter);
+        assertThat(((TimedFilter) filters.get(0)).getDelegate()).isSameAs(first);
+        assertThat(((TimedFilter) filters.get(1)).getDelegate()).isSameAs(second);
+    }
+
+    private static MockHttpServletRequest request(String method, String url) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, url);
+        request.setServletPath(url);
+        return request;
+    }
+
+    private static class PassFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static class SleepFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
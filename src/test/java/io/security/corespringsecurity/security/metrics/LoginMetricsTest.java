@@ -0,0 +1,81 @@
+package io.security.corespringsecurity.security.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LoginMetricsTest {
+
+    SimpleMeterRegistry registry;
+    LoginMetrics loginMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        loginMetrics = new LoginMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("단계가 성공하면 outcome=success, exception=none 으로 수행시간을 기록하고 결과를 그대로 반환한다.")
+    void stageSuccess() {
+        //when
+        String result = loginMetrics.stage(LoginMetrics.STAGE_USER_LOOKUP, () -> "user");
+
+        //then
+        assertThat(result).isEqualTo("user");
+        assertThat(registry.get(LoginMetrics.STAGE)
+                .tag("stage", LoginMetrics.STAGE_USER_LOOKUP)
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단계에서 예외가 발생하면 outcome=failure, exception=예외 클래스 이름으로 기록하고 예외를 그대로 던진다.")
+    void stageFailure() {
+        //when
+        assertThatThrownBy(() -> loginMetrics.authenticate("form", () -> {
+            throw new BadCredentialsException("invalid password");
+        })).isInstanceOf(BadCredentialsException.class);
+
+        //then
+        assertThat(registry.get(LoginMetrics.AUTHENTICATE)
+                .tag("type", "form")
+                .tag("outcome", "failure")
+                .tag("exception", "BadCredentialsException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("handler 결과는 수행시간과 함께 로그인 결과 수(attempts)로 기록한다.")
+    void handler() {
+        //when
+        loginMetrics.handlerSuccess(System.nanoTime());
+        loginMetrics.handlerFailure(System.nanoTime(), new BadCredentialsException("invalid password"));
+        loginMetrics.handlerFailure(System.nanoTime(), new BadCredentialsException("invalid password"));
+
+        //then
+        assertThat(registry.get(LoginMetrics.HANDLER).tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get(LoginMetrics.ATTEMPTS).tag("outcome", "success").counter().count()).isEqualTo(1);
+        assertThat(registry.get(LoginMetrics.ATTEMPTS)
+                .tag("outcome", "failure")
+                .tag("exception", "BadCredentialsException")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("NO_OP 은 기록하지 않고 결과만 반환한다.")
+    void noOp() {
+        //when
+        Integer result = LoginMetrics.NO_OP.stage(LoginMetrics.STAGE_PASSWORD_MATCH, () -> 1);
+        LoginMetrics.NO_OP.handlerSuccess(System.nanoTime());
+
+        //then
+        assertThat(result).isEqualTo(1);
+    }
+}
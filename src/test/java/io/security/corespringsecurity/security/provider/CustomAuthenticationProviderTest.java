@@ -1,15 +1,21 @@
 package io.security.corespringsecurity.security.provider;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.security.corespringsecurity.domain.Account;
 import io.security.corespringsecurity.security.common.FormWebAuthenticationDetails;
+import io.security.corespringsecurity.security.crypto.PasswordUpgrader;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
 import io.security.corespringsecurity.security.service.AccountContext;
 import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.security.throttle.LoginThrottle;
+import io.security.corespringsecurity.security.throttle.LoginThrottledException;
 import io.security.corespringsecurity.test.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -29,7 +35,10 @@ import static io.security.corespringsecurity.constants.TestDataConstants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -45,6 +54,17 @@ public class CustomAuthenticationProviderTest {
     @Mock
     CustomUsersDetailsService customUsersDetailsService;
 
+    @Mock
+    PasswordUpgrader passwordUpgrader;
+
+    @Mock
+    LoginThrottle loginThrottle;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    LoginMetrics loginMetrics = new LoginMetrics(meterRegistry);
+
     @Mock
     Authentication authentication;
 
@@ -91,10 +111,13 @@ public class CustomAuthenticationProviderTest {
         Authentication authenticate = authenticationProvider.authenticate(authentication);
 
         //then
-        assertThat(authenticate.getPrincipal()).isEqualTo(accountContext.getAccount());
+        assertThat(authenticate.getPrincipal()).isEqualTo(accountContext.getPrincipal());
         assertThat(authenticate.getCredentials()).isNull();
         assertThat(authenticate.getAuthorities().containsAll(accountContext.getAuthorities())).isTrue();
         verify(customUsersDetailsService, times(1)).loadUserByUsername(any());
+        verify(passwordUpgrader, times(1)).upgradeIfNecessary(user.getUsername(), RAW_PASSWORD, user.getPassword());
+        assertThat(meterRegistry.get(LoginMetrics.AUTHENTICATE).tag("type", "form").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LoginMetrics.STAGE).tag("stage", LoginMetrics.STAGE_PASSWORD_MATCH).timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -111,6 +134,7 @@ public class CustomAuthenticationProviderTest {
                 authenticationProvider.authenticate(authentication))//when
                 .isInstanceOf(UsernameNotFoundException.class);
         verify(customUsersDetailsService, times(1)).loadUserByUsername(any());
+        verify(mockPasswordEncoder, times(1)).matches(eq(RAW_PASSWORD), any());//없는 사용자도 dummy 해시와 비교
     }
 
     @Test
@@ -129,6 +153,10 @@ public class CustomAuthenticationProviderTest {
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("invalid password");
         verify(customUsersDetailsService, times(1)).loadUserByUsername(any());
+        assertThat(meterRegistry.get(LoginMetrics.AUTHENTICATE)
+                .tag("outcome", "failure")
+                .tag("exception", "BadCredentialsException")
+                .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -150,6 +178,24 @@ public class CustomAuthenticationProviderTest {
         verify(customUsersDetailsService, times(1)).loadUserByUsername(any());
     }
 
+    @Test
+    @DisplayName("추가 검증 메서드; 로그인 시도 횟수 제한을 넘으면 유저 조회 없이 LoginThrottledException 예외가 발생한다")
+    void throttled() {
+        //given
+        request.setRemoteAddr("10.0.0.1");
+        given(authentication.getName()).willReturn(user.getUsername());
+        given(authentication.getCredentials()).willReturn(RAW_PASSWORD);
+        given(authentication.getDetails()).willReturn(new FormWebAuthenticationDetails(request));
+        doThrow(new LoginThrottledException("Too many login attempts", 60)).when(loginThrottle).check(user.getUsername(), "10.0.0.1");
+
+        //then
+        assertThatThrownBy(() ->
+                authenticationProvider.authenticate(authentication))//when
+                .isInstanceOf(LoginThrottledException.class);
+        verify(customUsersDetailsService, never()).loadUserByUsername(any());
+        verify(mockPasswordEncoder, never()).matches(any(), any());
+    }
+
     @Test
     @DisplayName("토큰이 맞는지 검증하는 메서드; 토큰이 일치한다.")
     void supportsSuccess() {
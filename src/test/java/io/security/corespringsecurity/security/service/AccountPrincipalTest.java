@@ -0,0 +1,40 @@
+package io.security.corespringsecurity.security.service;
+
+import io.security.corespringsecurity.domain.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.getRoles;
+import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccountPrincipalTest {
+
+    @Test
+    @DisplayName("SecurityContext 는 기본 java 직렬화(Spring Session 기본값)로 저장되고, principal 에는 password 가 없다.")
+    void serialize() {
+        //given
+        Account account = getUser("{bcrypt}password-hash");
+        account.setId(1L);
+        AccountPrincipal principal = AccountPrincipal.of(account, getRoles(account));
+        SecurityContext securityContext = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities()));
+
+        //when
+        byte[] bytes = new SerializingConverter().convert(securityContext);
+        SecurityContext actual = (SecurityContext) new DeserializingConverter().convert(bytes);
+
+        //then
+        assertThat(actual.getAuthentication().getPrincipal()).isEqualTo(principal);
+        assertThat(actual.getAuthentication().getName()).isEqualTo(account.getUsername());
+        assertThat(actual.getAuthentication().getAuthorities()).isEqualTo(securityContext.getAuthentication().getAuthorities());
+        assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).doesNotContain(account.getPassword());
+    }
+}
@@ -2,6 +2,7 @@ package io.security.corespringsecurity.security.service;
 
 import io.security.corespringsecurity.domain.Account;
 import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
 import io.security.corespringsecurity.test.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -40,11 +43,15 @@ public class CustomUsersDetailsServiceTest {
     @Autowired//TestConfig 에서 Inject 를 @MockBean 으로 하기 때문에 BDDMyOngoingStubbing 사용가능
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     Account user;
 
     @BeforeEach
     void setUp() {
         user = getUser(passwordEncoder.encode(RAW_PASSWORD));
+        userCache.removeUserFromCache(user.getUsername());
     }
 
     @Test
@@ -70,4 +77,52 @@ public class CustomUsersDetailsServiceTest {
             customUsersDetailsService.loadUserByUsername(user.getUsername());
         }).isInstanceOf(UsernameNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("캐시된 user 는 DB 조회 없이 찾는다.")
+    void loadUserByUsernameFromCache() {
+        //given
+        given(userRepository.findByUsername(any())).willReturn(user);
+        UserDetails expected = customUsersDetailsService.loadUserByUsername(user.getUsername());
+        //when
+        UserDetails actual = customUsersDetailsService.loadUserByUsername(user.getUsername());
+        //then
+        verify(userRepository, times(1)).findByUsername(any());
+        assertThat(actual).isSameAs(expected);
+        assertThat(((AccountContext) actual).getPrincipal()).isSameAs(((AccountContext) expected).getPrincipal());
+    }
+
+    @Test
+    @DisplayName("인증 객체에 담을 principal 은 entity 가 아닌 id, username, role, 권한만 갖는 AccountPrincipal 이다.")
+    void principal() {
+        //given
+        user.setId(1L);
+        given(userRepository.findByUsername(any())).willReturn(user);
+        //when
+        AccountPrincipal principal = ((AccountContext) customUsersDetailsService.loadUserByUsername(user.getUsername())).getPrincipal();
+        //then
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getName()).isEqualTo(user.getUsername());
+        assertThat(principal.getRole()).isEqualTo(user.getRole());
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly(user.getRole());
+        assertThatThrownBy(() -> principal.getAuthorities().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("username filter 에 없는 username 은 DB 조회 없이 UsernameNotFoundException 예외가 발생한다.")
+    void loadUserByUsernameFilterReject() {
+        //given
+        UsernameBloomFilter usernameBloomFilter = new UsernameBloomFilter(100, 0.01);
+        usernameBloomFilter.put(user.getUsername());
+        usernameBloomFilter.markLoaded();
+        given(userRepository.findByUsername(user.getUsername())).willReturn(user);
+        CustomUsersDetailsService service = new CustomUsersDetailsService(userRepository, userCache, usernameBloomFilter);
+
+        //when
+        assertThatThrownBy(() -> service.loadUserByUsername("unknownUsername"))
+                //then
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, never()).findByUsername("unknownUsername");
+        assertThat(service.loadUserByUsername(user.getUsername())).isNotNull();
+    }
 }
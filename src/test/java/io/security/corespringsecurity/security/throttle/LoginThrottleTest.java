@@ -0,0 +1,129 @@
+package io.security.corespringsecurity.security.throttle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LoginThrottleTest {
+
+    static final Instant WINDOW_START = Instant.ofEpochMilli(60_000L * 1000);
+
+    MutableClock clock;
+    LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(WINDOW_START);
+        loginThrottle = new LoginThrottle(new StripedLoginAttemptStore(4, 1000), 3, 5, Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    @DisplayName("username 별 시도 횟수가 제한을 넘으면 LoginThrottledException 이 발생한다.")
+    void usernameLimit() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.check("user", "10.0.0." + i);
+        }
+
+        //when, then
+        assertThatThrownBy(() -> loginThrottle.check("user", "10.0.0.9"))
+                .isInstanceOf(LoginThrottledException.class)
+                .satisfies(e -> assertThat(((LoginThrottledException) e).getRetryAfterSeconds()).isEqualTo(60));
+        assertThatCode(() -> loginThrottle.check("other", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("ip 별 시도 횟수가 제한을 넘으면 username 이 달라도 LoginThrottledException 이 발생한다.")
+    void ipLimit() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.check("user" + i, "10.0.0.1");
+        }
+
+        //when, then
+        assertThatThrownBy(() -> loginThrottle.check("user9", "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+    }
+
+    @Test
+    @DisplayName("직전 구간의 시도 횟수는 현재 구간이 지날수록 적게 반영된다.")
+    void slidingWindow() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.check("user", null);
+        }
+
+        //when, then
+        clock.plus(Duration.ofSeconds(60));//직전 구간 3회 * 100%
+        assertThatThrownBy(() -> loginThrottle.check("user", null)).isInstanceOf(LoginThrottledException.class);
+
+        clock.plus(Duration.ofSeconds(60 + 45));//직전 구간 4회 * 25% + 현재 구간 1회 = 2
+        assertThatCode(() -> loginThrottle.check("user", null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("limit 이 0 이하이면 제한하지 않는다.")
+    void unlimited() {
+        //given
+        LoginThrottle unlimited = new LoginThrottle(new StripedLoginAttemptStore(4, 1000), 0, 0, Duration.ofMinutes(1), clock);
+
+        //when, then
+        assertThatCode(() -> {
+            for (int i = 0; i < 100; i++) {
+                unlimited.check("user", "10.0.0.1");
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("stripe 의 key 수가 최대치를 넘으면 지난 구간의 key 를 제거한다.")
+    void evictStaleKeys() {
+        //given
+        StripedLoginAttemptStore store = new StripedLoginAttemptStore(2, 4);
+        store.incrementAndGet("stale", 1);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            store.incrementAndGet("key" + i, 10);
+        }
+
+        //then
+        assertThat(store.incrementAndGet("stale", 10)).containsExactly(1, 0);
+    }
+
+    static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
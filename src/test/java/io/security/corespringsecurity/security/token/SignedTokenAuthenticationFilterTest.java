@@ -0,0 +1,74 @@
+package io.security.corespringsecurity.security.token;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.RAW_PASSWORD;
+import static io.security.corespringsecurity.constants.TestDataConstants.getRoles;
+import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static io.security.corespringsecurity.security.token.SignedTokenService.TOKEN_COOKIE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SignedTokenAuthenticationFilterTest {
+
+    SignedTokenService signedTokenService;
+    SignedTokenAuthenticationFilter filter;
+    MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        signedTokenService = new SignedTokenService("test-secret".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(30), Clock.systemUTC());
+        filter = new SignedTokenAuthenticationFilter(signedTokenService);
+        request = new MockHttpServletRequest("GET", "/mypage");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 쿠키가 있으면 세션 없이 인증 객체를 생성한다.")
+    void authenticate() throws Exception {
+        //given
+        Account user = getUser(RAW_PASSWORD);
+        user.setId(1L);
+        request.setCookies(new Cookie(TOKEN_COOKIE_NAME, signedTokenService.issue(AccountPrincipal.of(user, getRoles(user)))));
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        //then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(((AccountPrincipal) authentication.getPrincipal()).getUsername()).isEqualTo(user.getUsername());
+        assertThat(getRoles(user)).containsExactlyElementsOf(authentication.getAuthorities());
+        assertThat(request.getSession(false)).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰이 유효하지 않으면 인증 객체를 생성하지 않는다.")
+    void invalidToken() throws Exception {
+        //given
+        request.setCookies(new Cookie(TOKEN_COOKIE_NAME, "invalid"));
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        //then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package io.security.corespringsecurity.security.token;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.security.service.AccountPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.RAW_PASSWORD;
+import static io.security.corespringsecurity.constants.TestDataConstants.getRoles;
+import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SignedTokenServiceTest {
+
+    static final byte[] SECRET = "test-secret".getBytes(StandardCharsets.UTF_8);
+    static final Instant NOW = Instant.parse("2021-01-01T00:00:00Z");
+
+    SignedTokenService signedTokenService;
+    AccountPrincipal user;
+
+    @BeforeEach
+    void setUp() {
+        signedTokenService = new SignedTokenService(SECRET, Duration.ofMinutes(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        Account account = getUser(RAW_PASSWORD);
+        account.setId(1L);
+        user = AccountPrincipal.of(account, getRoles(account));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰을 검증하면 id, username, role, 권한이 복원된다.")
+    void issueAndVerify() {
+        //given
+        String token = signedTokenService.issue(user);
+
+        //when
+        AccountPrincipal principal = signedTokenService.verify(token);
+
+        //then
+        assertThat(principal.getId()).isEqualTo(user.getId());
+        assertThat(principal.getUsername()).isEqualTo(user.getUsername());
+        assertThat(principal.getRole()).isEqualTo(user.getRole());
+        assertThat(principal).isEqualTo(user);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 secret 으로 생성되었거나 payload 가 변조되면 검증에 실패한다.")
+    void verifyTampered() {
+        //given
+        String token = signedTokenService.issue(user);
+        SignedTokenService otherService = new SignedTokenService("other-secret".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(30), Clock.fixed(NOW, ZoneOffset.UTC));
+        String forged = otherService.issue(new AccountPrincipal(user.getId(), user.getUsername(), "ADMIN", user.getAuthorities()));
+        String tampered = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        //when, then
+        assertThat(signedTokenService.verify(forged)).isNull();
+        assertThat(signedTokenService.verify(tampered)).isNull();
+        assertThat(signedTokenService.verify("invalid")).isNull();
+        assertThat(signedTokenService.verify("!!.!!")).isNull();
+        assertThat(signedTokenService.verify(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("만료시간이 지난 토큰은 검증에 실패한다.")
+    void verifyExpired() {
+        //given
+        String token = signedTokenService.issue(user);
+        SignedTokenService laterService = new SignedTokenService(SECRET, Duration.ofMinutes(30), Clock.fixed(NOW.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+
+        //when, then
+        assertThat(laterService.verify(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("role 에 구분자(:)가 포함되어도 만료시간을 조작할 수 없고, 만료시간이 지나면 검증에 실패한다.")
+    void verifyRoleContainingDelimiter() {
+        //given
+        AccountPrincipal injected = new AccountPrincipal(user.getId(), user.getUsername(), "ROLE_USER:99999999999:x", user.getAuthorities());
+        String token = signedTokenService.issue(injected);
+        SignedTokenService laterService = new SignedTokenService(SECRET, Duration.ofMinutes(30), Clock.fixed(NOW.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+
+        //when
+        AccountPrincipal principal = signedTokenService.verify(token);
+
+        //then
+        assertThat(principal.getRole()).isEqualTo(injected.getRole());
+        assertThat(principal.getUsername()).isEqualTo(injected.getUsername());
+        assertThat(laterService.verify(token)).isNull();
+    }
+}
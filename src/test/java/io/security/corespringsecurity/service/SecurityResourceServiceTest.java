@@ -0,0 +1,114 @@
+package io.security.corespringsecurity.service;
+
+import io.security.corespringsecurity.domain.Resources;
+import io.security.corespringsecurity.domain.Role;
+import io.security.corespringsecurity.repository.ResourcesRepository;
+import io.security.corespringsecurity.repository.RoleRepository;
+import io.security.corespringsecurity.security.metadatasource.UrlAuthorizationIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static io.security.corespringsecurity.constants.UrlConstant.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SecurityResourceServiceTest {
+
+    @InjectMocks
+    SecurityResourceServiceImpl securityResourceService;
+
+    @Mock
+    ResourcesRepository resourcesRepository;
+
+    @Mock
+    RoleRepository roleRepository;
+
+    @Test
+    @DisplayName("DB 에 등록된 자원 순서대로 인가 정보를 생성한다.")
+    void getUrlAuthorizationIndex() {
+        //given
+        Role manager = Role.builder().roleName("ROLE_MANAGER").build();
+        Role admin = Role.builder().roleName("ROLE_ADMIN").build();
+        given(resourcesRepository.findAllResources()).willReturn(Arrays.asList(
+                Resources.builder().resourceName(MESSAGES_URL).orderNum(1).permitAll(true).build(),
+                Resources.builder().resourceName(MYPAGE_URL).orderNum(2).build(),
+                Resources.builder().resourceName(CONFIG_URL + "/**").orderNum(3).roleSet(new HashSet<>(Arrays.asList(admin, manager))).build()
+        ));
+
+        //when
+        UrlAuthorizationIndex index = securityResourceService.getUrlAuthorizationIndex();
+
+        //then
+        assertThat(index.getAttribute(request(MESSAGES_URL)).getAttribute()).isEqualTo("permitAll");
+        assertThat(index.getAttribute(request(MYPAGE_URL)).getAttribute()).isEqualTo("authenticated");
+        assertThat(index.getAttribute(request(CONFIG_URL + "/reload")).getAttribute()).isEqualTo("hasAnyRole(ROLE_ADMIN,ROLE_MANAGER)");
+        assertThat(index.getAttribute(request(ROOT_URL)).getAttribute()).isEqualTo("authenticated");
+    }
+
+    @Test
+    @DisplayName("DB 에 등록된 자원이 없으면 기본 자원으로 인가 정보를 생성한다.")
+    void getDefaultUrlAuthorizationIndex() {
+        //given
+        given(resourcesRepository.findAllResources()).willReturn(Collections.emptyList());
+
+        //when
+        UrlAuthorizationIndex index = securityResourceService.getUrlAuthorizationIndex();
+
+        //then
+        assertThat(index.getAttribute(request(LOGIN_URL)).getAttribute()).isEqualTo("permitAll");
+        assertThat(index.getAttribute(request(MYPAGE_URL)).getAttribute()).isEqualTo("hasAnyRole(ROLE_USER)");
+        assertThat(index.getAttribute(request(CONFIG_URL)).getAttribute()).isEqualTo("hasAnyRole(ROLE_ADMIN)");
+        assertThat(index.getAttribute(request(HEALTH_URL)).getAttribute()).isEqualTo("permitAll");
+        assertThat(index.getAttribute(request(PROMETHEUS_URL)).getAttribute()).isEqualTo("hasAnyRole(ROLE_ADMIN)");
+    }
+
+    @Test
+    @DisplayName("DB 에 등록된 자원이 없을 때만 기본 권한/자원을 등록한다.")
+    void saveDefaultResourcesIfEmpty() {
+        //given
+        given(resourcesRepository.count()).willReturn(0L, 1L);
+        given(roleRepository.save(any(Role.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        securityResourceService.saveDefaultResourcesIfEmpty();
+        securityResourceService.saveDefaultResourcesIfEmpty();
+
+        //then
+        verify(roleRepository, times(3)).save(any(Role.class));
+        verify(resourcesRepository, times(1)).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("이미 등록된 자원이 있으면 기본 자원을 등록하지 않는다.")
+    void notSaveDefaultResources() {
+        //given
+        given(resourcesRepository.count()).willReturn(3L);
+
+        //when
+        securityResourceService.saveDefaultResourcesIfEmpty();
+
+        //then
+        verify(resourcesRepository, never()).saveAll(anyIterable());
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,93 @@
+package io.security.corespringsecurity.service;
+
+import io.security.corespringsecurity.domain.Account;
+import io.security.corespringsecurity.domain.BulkImportResult;
+import io.security.corespringsecurity.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "security.bulk-import.chunk-size=2")
+@Transactional
+public class UserBulkImportServiceTest {
+
+    @Autowired
+    UserBulkImportService userBulkImportService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("CSV 로 회원을 일괄 등록하고, 잘못된 행은 행 번호와 사유를 남긴다.")
+    void importCsv() throws IOException {
+        //given
+        userRepository.save(getUser(passwordEncoder.encode("1111")));
+        String csv = "username,password,email,age,role\n" +
+                "bulk1,1111,\"a,b@aa.com\",11,USER\n" +
+                "bulk2,,aa@aa.com,11,USER\n" +
+                "user,1111,aa@aa.com,11,USER\n" +
+                "\n" +
+                "bulk3,\"11\"\"11\",aa@aa.com,11,MANAGER\n" +
+                "bulk1,1111,aa@aa.com,11,USER\n";
+
+        //when
+        BulkImportResult result = userBulkImportService.importUsers(input(csv), UserBulkImportService.Format.CSV);
+
+        //then
+        assertThat(result.getProcessed()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting("line", "username", "message")
+                .containsExactlyInAnyOrder(
+                        tuple(3L, "bulk2", "password is required"),
+                        tuple(4L, "user", "username already exists"),
+                        tuple(7L, "bulk1", "duplicate username in input"));
+
+        Account bulk1 = userRepository.findByUsername("bulk1");
+        assertThat(bulk1.getEmail()).isEqualTo("a,b@aa.com");
+        assertThat(passwordEncoder.matches("1111", bulk1.getPassword())).isTrue();
+        assertThat(passwordEncoder.matches("11\"11", userRepository.findByUsername("bulk3").getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("NDJSON 으로 회원을 일괄 등록하고, json 이 아닌 행은 실패 처리한다.")
+    void importNdjson() throws IOException {
+        //given
+        String ndjson = "{\"username\":\"bulk1\",\"password\":\"1111\",\"role\":\"USER\"}\n" +
+                "not json\n" +
+                "{\"username\":\"bulk2\",\"password\":\"1111\",\"role\":\"USER\"}\n" +
+                "{\"username\":\"bulk3\",\"password\":\"1111\",\"role\":\"USER\"}\n";
+
+        //when
+        BulkImportResult result = userBulkImportService.importUsers(input(ndjson), UserBulkImportService.Format.NDJSON);
+
+        //then
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting("line", "message")
+                .containsExactly(tuple(2L, "invalid json"));
+        assertThat(userRepository.findExistingUsernames(Arrays.asList("bulk1", "bulk2", "bulk3")))
+                .containsExactlyInAnyOrder("bulk1", "bulk2", "bulk3");
+    }
+
+    private static InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
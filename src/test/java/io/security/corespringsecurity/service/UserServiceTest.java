@@ -2,6 +2,7 @@ package io.security.corespringsecurity.service;
 
 import io.security.corespringsecurity.domain.Account;
 import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.service.AccountContext;
 import io.security.corespringsecurity.test.TestConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,10 +10,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static io.security.corespringsecurity.constants.TestDataConstants.RAW_PASSWORD;
+import static io.security.corespringsecurity.constants.TestDataConstants.getRoles;
 import static io.security.corespringsecurity.constants.TestDataConstants.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,6 +32,10 @@ public class UserServiceTest {
 
     @Autowired//TestConfig 에서 Inject 를 @MockBean 으로 하기 때문에 BDDMyOngoingStubbing 사용가능
     UserRepository repository;
+
+    @Autowired
+    UserCache userCache;
+
     Account user;
 
     @BeforeEach
@@ -47,4 +55,32 @@ public class UserServiceTest {
         //then
         verify(repository, times(1)).save(user);
     }
+
+    @Test
+    @DisplayName("회원가입 후 캐시된 user 정보를 비운다.")
+    void createUserEvictCache() {
+        //given
+        userCache.putUserInCache(new AccountContext(user, getRoles(user)));
+
+        //when
+        service.createUser(user);
+
+        //then
+        assertThat(userCache.getUserFromCache(user.getUsername())).isNull();
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경시 저장된 해시를 바꾸고 캐시된 user 정보를 비운다.")
+    void updatePassword() {
+        //given
+        given(repository.findByUsername(user.getUsername())).willReturn(user);
+        userCache.putUserInCache(new AccountContext(user, getRoles(user)));
+
+        //when
+        service.updatePassword(user.getUsername(), "{noop}newPassword");
+
+        //then
+        assertThat(user.getPassword()).isEqualTo("{noop}newPassword");
+        assertThat(userCache.getUserFromCache(user.getUsername())).isNull();
+    }
 }
@@ -1,22 +1,44 @@
 package io.security.corespringsecurity.test;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.security.corespringsecurity.repository.ResourcesRepository;
+import io.security.corespringsecurity.repository.RoleRepository;
 import io.security.corespringsecurity.repository.UserRepository;
+import io.security.corespringsecurity.security.cache.CaffeineUserCache;
+import io.security.corespringsecurity.security.cache.UsernameBloomFilter;
 import io.security.corespringsecurity.security.common.FormWebAuthenticationDetailsSource;
+import io.security.corespringsecurity.security.configs.MapperConfig;
 import io.security.corespringsecurity.security.configs.SecurityConfig;
+import io.security.corespringsecurity.security.handler.AjaxAuthenticationFailureHandler;
+import io.security.corespringsecurity.security.handler.AjaxAuthenticationSuccessHandler;
 import io.security.corespringsecurity.security.handler.CustomAccessDeniedHandler;
 import io.security.corespringsecurity.security.handler.CustomAuthenticationFailureHandler;
 import io.security.corespringsecurity.security.handler.CustomAuthenticationSuccessHandler;
+import io.security.corespringsecurity.security.metadatasource.UrlFilterInvocationSecurityMetadataSource;
+import io.security.corespringsecurity.security.metrics.LoginMetrics;
 import io.security.corespringsecurity.security.service.CustomUsersDetailsService;
+import io.security.corespringsecurity.security.token.SignedTokenService;
+import io.security.corespringsecurity.service.SecurityResourceService;
+import io.security.corespringsecurity.service.SecurityResourceServiceImpl;
+import io.security.corespringsecurity.service.UserBulkImportService;
 import io.security.corespringsecurity.service.UserService;
 import io.security.corespringsecurity.service.UserServiceImpl;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+
 import static io.security.corespringsecurity.constants.UrlConstant.DENIED_URL;
 
 @TestConfiguration
@@ -24,16 +46,42 @@ public class TestConfig {
     @MockBean
     UserRepository userRepository;
 
+    @MockBean//등록된 자원이 없으므로 기본 자원으로 인가
+    ResourcesRepository resourcesRepository;
+
+    @MockBean
+    RoleRepository roleRepository;
+
+    @MockBean
+    UserBulkImportService userBulkImportService;
+
     @Bean
-    public SecurityConfig securityConfig() {
+    public SecurityConfig securityConfig(ObjectProvider<SignedTokenService> signedTokenService) {
         return new SecurityConfig(
                 customUsersDetailsService(),
                 formWebAuthenticationDetailsSource(),
                 customAuthenticationSuccessHandler(),
-                customAuthenticationFailureHandler()
+                customAuthenticationFailureHandler(),
+                meterRegistry(),
+                userService(),
+                signedTokenService,
+                urlFilterInvocationSecurityMetadataSource(),
+                ajaxAuthenticationSuccessHandler(),
+                ajaxAuthenticationFailureHandler(),
+                loginMetrics()
         );
     }
 
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public LoginMetrics loginMetrics() {
+        return new LoginMetrics(meterRegistry());
+    }
+
     @Bean
     public AccessDeniedHandler customAccessDeniedHandler() {
         CustomAccessDeniedHandler customAccessDeniedHandler = new CustomAccessDeniedHandler();
@@ -51,6 +99,16 @@ public class TestConfig {
         return new CustomAuthenticationSuccessHandler();
     }
 
+    @Bean
+    public AjaxAuthenticationSuccessHandler ajaxAuthenticationSuccessHandler() {
+        return new AjaxAuthenticationSuccessHandler();
+    }
+
+    @Bean
+    public AjaxAuthenticationFailureHandler ajaxAuthenticationFailureHandler() {
+        return new AjaxAuthenticationFailureHandler();
+    }
+
     @Bean
     public FormWebAuthenticationDetailsSource formWebAuthenticationDetailsSource() {
         return new FormWebAuthenticationDetailsSource();
@@ -58,16 +116,46 @@ public class TestConfig {
 
     @Bean
     public CustomUsersDetailsService customUsersDetailsService() {
-        return new CustomUsersDetailsService(userRepository);
+        return new CustomUsersDetailsService(userRepository, userCache(), usernameBloomFilter());
+    }
+
+    @Bean
+    public UserCache userCache() {
+        return new CaffeineUserCache(100, Duration.ofMinutes(5));
+    }
+
+    @Bean//UserRepository 가 mock 이므로 username filter 는 사용하지 않음
+    public UsernameBloomFilter usernameBloomFilter() {
+        return UsernameBloomFilter.DISABLED;
     }
 
     @Bean
     public UserService userService() {
-        return new UserServiceImpl(userRepository);
+        return new UserServiceImpl(userRepository, userCache(), usernameBloomFilter());
+    }
+
+    @Bean
+    public SignedTokenService signedTokenService() {
+        return new SignedTokenService("test-secret".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(30), Clock.systemUTC());
+    }
+
+    @Bean
+    public SecurityResourceService securityResourceService() {
+        return new SecurityResourceServiceImpl(resourcesRepository, roleRepository);
+    }
+
+    @Bean
+    public UrlFilterInvocationSecurityMetadataSource urlFilterInvocationSecurityMetadataSource() {
+        return new UrlFilterInvocationSecurityMetadataSource(securityResourceService());
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(SecurityConfig securityConfig) {
+        return securityConfig.passwordEncoder();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return securityConfig().passwordEncoder();
+    public ModelMapper modelMapper() {
+        return new MapperConfig().modelMapper();
     }
 }
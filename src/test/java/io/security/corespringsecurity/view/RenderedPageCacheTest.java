@@ -0,0 +1,92 @@
+package io.security.corespringsecurity.view;
+
+import io.security.corespringsecurity.controller.login.LoginController;
+import io.security.corespringsecurity.security.configs.ViewConfig;
+import io.security.corespringsecurity.test.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static io.security.corespringsecurity.constants.UrlConstant.DENIED_URL;
+import static io.security.corespringsecurity.constants.UrlConstant.LOGIN_URL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = LoginController.class, properties = "spring.thymeleaf.cache=true")
+@Import({TestConfig.class, ViewConfig.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class RenderedPageCacheTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    RenderedPageCache renderedPageCache;
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("로그인 페이지는 실패 메시지가 달라도 한번만 렌더링해서 보관하고, 메시지와 csrf token 만 요청마다 채운다.")
+    void loginPage() throws Exception {
+        //when
+        MvcResult first = mvc.perform(get(LOGIN_URL).param("error", "true").param("exception", "Invalid Secret Key"))
+                .andExpect(status().isOk())
+                .andReturn();
+        MvcResult second = mvc.perform(get(LOGIN_URL).param("error", "true").param("exception", "<b>Invalid</b>"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        assertThat(renderedPageCache.size()).isEqualTo(1);
+        String firstBody = first.getResponse().getContentAsString();
+        String secondBody = second.getResponse().getContentAsString();
+        assertThat(firstBody).contains(">Invalid Secret Key<", "value=\"" + csrfToken(first) + "\"", "Core Spring Security");
+        assertThat(secondBody).contains(">&lt;b&gt;Invalid&lt;/b&gt;<", "value=\"" + csrfToken(second) + "\"");
+        assertThat(csrfToken(first)).isNotEqualTo(csrfToken(second));
+        assertThat(secondBody.replace("&lt;b&gt;Invalid&lt;/b&gt;", "Invalid Secret Key").replace(csrfToken(second), csrfToken(first)))
+                .isEqualTo(firstBody);
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("?error=true 여부에 따라 따로 보관하고, 다른 값이면 보관하지 않고 렌더링한다.")
+    void loginPageFlag() throws Exception {
+        //when
+        String withoutError = mvc.perform(get(LOGIN_URL)).andReturn().getResponse().getContentAsString();
+        mvc.perform(get(LOGIN_URL).param("error", "true").param("exception", "Invalid Secret Key"));
+        String otherValue = mvc.perform(get(LOGIN_URL).param("error", "yes").param("exception", "Invalid Secret Key"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //then
+        assertThat(renderedPageCache.size()).isEqualTo(2);
+        assertThat(withoutError).doesNotContain("alert-danger");
+        assertThat(otherValue).contains(">Invalid Secret Key<");
+    }
+
+    @Test
+    @WithMockUser(username = "<user>", roles = "USER")
+    @DisplayName("인가 거부 페이지는 username 과 메시지를 escape 해서 채운다.")
+    void deniedPage() throws Exception {
+        //when
+        String body = mvc.perform(get(DENIED_URL).param("exception", "Access is denied"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        //then
+        assertThat(renderedPageCache.size()).isEqualTo(1);
+        assertThat(body).contains(">&lt;user&gt;<", ">Access is denied<");
+    }
+
+    private static String csrfToken(MvcResult result) {
+        return ((CsrfToken) result.getRequest().getAttribute(CsrfToken.class.getName())).getToken();
+    }
+}